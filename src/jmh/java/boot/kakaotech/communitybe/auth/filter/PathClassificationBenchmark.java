@@ -0,0 +1,138 @@
+package boot.kakaotech.communitybe.auth.filter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtVerificationFilter 요청 분류 비용: CompiledPathMatcher vs 이전 PathPattern 순회
+ * - 이전 방식은 요청마다 PathContainer를 파싱하고 excluded 패턴 전체를 두 번 순회(로그용 + 반환용),
+ *   제외 대상이 아니면 PathContainer를 다시 파싱해서 claims-only 패턴을 순회 (INFO 로그 비용은 제외)
+ * - 지금 방식은 excluded/claims-only를 각각 trie로 컴파일한 matcher로 한 번씩만 확인
+ * - extraPatterns는 제외 패턴 목록이 길어지는 경우 (trie로 처리되는 리터럴 + '**' 패턴 추가)
+ * - 요청은 제외/claims-only/인증 필요/PathPattern fallback 대상 URI를 돌아가며 사용
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PathClassificationBenchmark {
+
+    private static final List<String> EXCLUDED_PATTERNS = List.of(
+            "/api/auth/signup",
+            "/api/auth/login",
+            "/api/auth/duplications/**",
+            "/api/health",
+            "/terms",
+            "/privacy",
+            "/swagger-ui/**",
+            "/v3/api-docs/**",
+            "/images/*.png"
+    );
+
+    private static final List<String> CLAIMS_ONLY_PATTERNS = List.of(
+            "GET /api/posts",
+            "GET /api/posts/{postId}",
+            "GET /api/posts/{postId}/comments"
+    );
+
+    private static final String[][] REQUESTS = {
+            {"POST", "/api/auth/login"},
+            {"POST", "/api/auth/duplications/email"},
+            {"GET", "/api/posts"},
+            {"GET", "/api/posts/42"},
+            {"GET", "/api/posts/42/comments"},
+            {"POST", "/api/posts/42/likes"},
+            {"PATCH", "/api/users/password"},
+            {"GET", "/images/logo.png"}
+    };
+
+    @Param({"0", "40"})
+    private int extraPatterns;
+
+    private final PathPatternParser parser = new PathPatternParser();
+
+    private CompiledPathMatcher excludedMatcher;
+    private CompiledPathMatcher claimsOnlyMatcher;
+
+    private List<PathPattern> excludedPatterns;
+    private List<MethodPattern> claimsOnlyPatterns;
+
+    private int next;
+
+    @Setup
+    public void setUp() {
+        List<String> excluded = new ArrayList<>(EXCLUDED_PATTERNS);
+        for (int i = 0; i < extraPatterns; i++) {
+            excluded.add(i % 2 == 0 ? "/api/internal/feature" + i + "/**" : "/api/public/page" + i);
+        }
+
+        excludedMatcher = new CompiledPathMatcher(excluded, parser);
+        claimsOnlyMatcher = new CompiledPathMatcher(CLAIMS_ONLY_PATTERNS, parser);
+
+        excludedPatterns = excluded.stream().map(parser::parse).toList();
+        claimsOnlyPatterns = CLAIMS_ONLY_PATTERNS.stream().map(this::parseMethodPattern).toList();
+    }
+
+    @Benchmark
+    public int compiledMatcher() {
+        String[] request = nextRequest();
+
+        if (excludedMatcher.matches(request[0], request[1])) {
+            return 0;
+        }
+        return claimsOnlyMatcher.matches(request[0], request[1]) ? 1 : 2;
+    }
+
+    @Benchmark
+    public int pathPatternLoop() {
+        String[] request = nextRequest();
+
+        PathContainer container = PathContainer.parsePath(request[1]);
+        boolean skip = excludedPatterns.stream().anyMatch(p -> p.matches(container));
+        boolean excluded = excludedPatterns.stream().anyMatch(p -> p.matches(container));
+        if (skip && excluded) {
+            return 0;
+        }
+
+        PathContainer claimsContainer = PathContainer.parsePath(request[1]);
+        return claimsOnlyPatterns.stream().anyMatch(p -> p.matches(request[0], claimsContainer)) ? 1 : 2;
+    }
+
+    private String[] nextRequest() {
+        String[] request = REQUESTS[next];
+        next = (next + 1) % REQUESTS.length;
+        return request;
+    }
+
+    private MethodPattern parseMethodPattern(String raw) {
+        int space = raw.indexOf(' ');
+        return new MethodPattern(raw.substring(0, space), parser.parse(raw.substring(space + 1)));
+    }
+
+    private record MethodPattern(String method, PathPattern pattern) {
+
+        private boolean matches(String requestMethod, PathContainer path) {
+            return (method == null || method.equalsIgnoreCase(requestMethod)) && pattern.matches(path);
+        }
+
+    }
+
+}
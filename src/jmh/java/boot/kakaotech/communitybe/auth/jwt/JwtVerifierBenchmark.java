@@ -0,0 +1,158 @@
+package boot.kakaotech.communitybe.auth.jwt;
+
+import boot.kakaotech.communitybe.common.properties.JwtProperty;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.SecretKey;
+import java.security.SecureRandom;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 하나당 access token 검증 비용: JwtVerifier.verify vs 이전 방식
+ * - legacyProcessAccessToken은 이전 JwtVerificationFilter.processAccessToken의 호출 순서 그대로
+ *   (extractUserIdFromToken -> isValidToken 안에서 extractUserIdFromToken, isExpiredToken)
+ * - 이전 방식은 파싱할 때마다 secret base64 디코딩, HMAC 키 생성, parser 생성을 다시 하고 서명을 세 번 검증
+ * - verify는 미리 만든 parser로 한 번만 파싱
+ * - access token이 만료돼 refresh token으로 넘어가는 요청은 이전 방식에서 서명을 네 번 검증
+ *   (만료된 access token 1번, refresh token extractUserIdFromToken 1번, rotateRefreshToken의 isValidToken 2번)
+ * - 유저 조회(DB)와 토큰 재발급은 두 방식 모두 제외
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtVerifierBenchmark {
+
+    private JwtVerifier verifier;
+    private LegacyJwtVerifier legacyVerifier;
+    private String token;
+    private String expiredToken;
+
+    @Setup
+    public void setUp() {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+
+        JwtProperty property = new JwtProperty();
+        property.setSecret(Encoders.BASE64.encode(secret));
+
+        verifier = new JwtVerifier(property);
+        legacyVerifier = new LegacyJwtVerifier(property.getSecret());
+        SecretKey key = verifier.getSigningKey();
+        token = Jwts.builder()
+                .subject("1")
+                .claim("nickname", "bench")
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                .signWith(key)
+                .compact();
+        expiredToken = Jwts.builder()
+                .subject("1")
+                .claim("nickname", "bench")
+                .issuedAt(new Date(System.currentTimeMillis() - TimeUnit.HOURS.toMillis(2)))
+                .expiration(new Date(System.currentTimeMillis() - TimeUnit.HOURS.toMillis(1)))
+                .signWith(key)
+                .compact();
+    }
+
+    @Benchmark
+    public VerifiedClaims expiredAccessThenRefresh() {
+        try {
+            return verifier.verify(expiredToken);
+        } catch (ExpiredJwtException e) {
+            return verifier.verify(token);
+        }
+    }
+
+    @Benchmark
+    public int legacyExpiredAccessThenRefresh() {
+        try {
+            return legacyProcessAccessToken(expiredToken);
+        } catch (ExpiredJwtException e) {
+            int userId = legacyVerifier.extractUserIdFromToken(token);
+            legacyVerifier.isValidToken(token, userId);
+            return userId;
+        }
+    }
+
+    @Benchmark
+    public VerifiedClaims verifyOnce() {
+        return verifier.verify(token);
+    }
+
+    @Benchmark
+    public int legacyProcessAccessToken() {
+        return legacyProcessAccessToken(token);
+    }
+
+    private int legacyProcessAccessToken(String accessToken) {
+        int userId = legacyVerifier.extractUserIdFromToken(accessToken);
+        legacyVerifier.isValidToken(accessToken, userId);
+        return userId;
+    }
+
+    /**
+     * 이전 JwtVerifier (유저 엔티티 대신 userId로 비교하는 것만 다름)
+     */
+    private static class LegacyJwtVerifier {
+
+        private final String secret;
+
+        private LegacyJwtVerifier(String secret) {
+            this.secret = secret;
+        }
+
+        private void isValidToken(String token, int expectedUserId) {
+            Integer userId = extractUserIdFromToken(token);
+
+            if (userId == null || userId != expectedUserId || isExpiredToken(token)) {
+                throw new IllegalStateException("invalid token");
+            }
+        }
+
+        private Integer extractUserIdFromToken(String token) {
+            Claims claims = getClaimsFromToken(token);
+
+            return Integer.parseInt(claims.getSubject());
+        }
+
+        private boolean isExpiredToken(String token) {
+            Claims claims = getClaimsFromToken(token);
+
+            Date expiration = claims.getExpiration();
+            return expiration.before(new Date());
+        }
+
+        private Claims getClaimsFromToken(String token) {
+            return Jwts.parser()
+                    .verifyWith(getSigninKey())
+                    .build()
+                    .parseSignedClaims(token).getPayload();
+        }
+
+        private SecretKey getSigninKey() {
+            byte[] keyBytes = Decoders.BASE64.decode(secret);
+            return Keys.hmacShaKeyFor(keyBytes);
+        }
+
+    }
+
+}
@@ -0,0 +1,69 @@
+package boot.kakaotech.communitybe.common.concurrent;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 상세 조립 지연시간: 순차 실행 vs DeadlineScope 병렬 실행
+ * - 게시글/본문/이미지/댓글 조회를 각각 2/2/4/6ms 걸리는 블로킹 호출로 흉내냄
+ * - capacity는 ForkBulkhead 허용량, 0이면 모든 fork가 호출 스레드에서 실행돼 순차와 같아져야 함
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DeadlineScopeBenchmark {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(3);
+
+    @Param({"64", "2", "0"})
+    private int capacity;
+
+    private ForkBulkhead bulkhead;
+
+    @Setup
+    public void setUp() {
+        bulkhead = new ForkBulkhead(capacity);
+    }
+
+    @Benchmark
+    public int sequential() {
+        return stage(2) + stage(2) + stage(4) + stage(6);
+    }
+
+    @Benchmark
+    public int parallel() {
+        try (DeadlineScope scope = new DeadlineScope(TIMEOUT, bulkhead)) {
+            Supplier<Integer> post = scope.fork(() -> stage(2));
+            Supplier<Integer> content = scope.fork(() -> stage(2));
+            Supplier<Integer> images = scope.fork(() -> stage(4));
+            Supplier<Integer> comments = scope.fork(() -> stage(6));
+
+            scope.join();
+
+            return post.get() + content.get() + images.get() + comments.get();
+        }
+    }
+
+    private static int stage(int millis) {
+        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(millis));
+        return millis;
+    }
+
+}
@@ -0,0 +1,112 @@
+package boot.kakaotech.communitybe.common.util;
+
+import boot.kakaotech.communitybe.common.properties.ViewCountProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 조회수 증가 처리량: ViewCountStore vs 이전 KeyValueStore 문자열 방식
+ * - 8개 스레드가 동시에 조회수를 올림, posts=1이면 모든 스레드가 같은 게시글(인기글)에 몰리는 경우
+ * - journal=true면 mmap 저널 기록 비용까지 포함 (segment가 차면 새 segment로 교체, 매 iteration마다 drain/release)
+ * - 두 방식 모두 increaseViewCount처럼 증가시킨 뒤 아직 반영되지 않은 증가분을 읽어서 반환
+ * - keyValueStoreBaseline은 ViewCountStore 이전 increaseViewCount 그대로
+ *   ("post_view:" + postId 키로 get -> parseInt -> 1 증가 -> String.valueOf -> put, 동시 조회 시 증가분 유실 가능)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class ViewCountStoreBenchmark {
+
+    @Param({"1", "1024"})
+    private int posts;
+
+    @Param({"false", "true"})
+    private boolean journal;
+
+    private Path directory;
+    private ViewCountStore store;
+    private static final String VIEW_COUNT_PREFIX = "post_view:";
+
+    private ConcurrentHashMap<String, String> baseline;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("view-count-bench");
+
+        ViewCountProperty.Journal journalProperty = new ViewCountProperty.Journal();
+        journalProperty.setEnabled(journal);
+        journalProperty.setDirectory(directory.toString());
+        journalProperty.setSegmentSizeBytes(256 * 1024 * 1024);
+
+        ViewCountProperty property = new ViewCountProperty();
+        property.setJournal(journalProperty);
+
+        store = new ViewCountStore(new ViewCountJournal(property));
+        store.recover();
+        baseline = new ConcurrentHashMap<>();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException {
+        store.drain().forEach(store::release);
+        try (var files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public long viewCountStore() {
+        int postId = nextPostId();
+
+        store.increment(postId);
+        return store.get(postId);
+    }
+
+    @Benchmark
+    public int keyValueStoreBaseline() {
+        String key = VIEW_COUNT_PREFIX + nextPostId();
+
+        String value = baseline.get(key);
+        int delta;
+        if (value == null) {
+            delta = 0;
+        } else {
+            delta = Integer.parseInt(value);
+        }
+
+        delta++;
+        baseline.put(key, String.valueOf(delta));
+        return delta;
+    }
+
+    private int nextPostId() {
+        return posts == 1 ? 1 : ThreadLocalRandom.current().nextInt(1, posts + 1);
+    }
+
+}
@@ -7,6 +7,7 @@ import boot.kakaotech.communitybe.auth.dto.ValueDto;
 import boot.kakaotech.communitybe.auth.service.AuthService;
 import boot.kakaotech.communitybe.common.CommonResponseDto;
 import boot.kakaotech.communitybe.common.CommonResponseMapper;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -83,14 +84,15 @@ public class AuthController {
     /**
      * 로그아웃 API
      *
+     * @param request
      * @param response
      * @return
      */
     @PostMapping("/logout")
-    public ResponseEntity<CommonResponseDto<Void>> logout(HttpServletResponse response) {
+    public ResponseEntity<CommonResponseDto<Void>> logout(HttpServletRequest request, HttpServletResponse response) {
         log.info("[AuthController] 로그아웃 시작");
 
-        authService.logout(response);
+        authService.logout(request, response);
         CommonResponseDto<Void> res = responseMapper.createResponse(
                 "로그아웃 성공"
         );
@@ -0,0 +1,60 @@
+package boot.kakaotech.communitybe.auth.filter;
+
+import boot.kakaotech.communitybe.auth.ratelimit.AuthRateLimiter;
+import boot.kakaotech.communitybe.common.CommonErrorDto;
+import boot.kakaotech.communitybe.common.CommonResponseMapper;
+import boot.kakaotech.communitybe.common.exception.ErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 로그인/회원가입(/api/auth/login, /api/auth/signup) 요청을 클라이언트 IP별로 제한하는 필터
+ * - 비밀번호 해싱까지 가기 전에 거절해서 credential stuffing이 CPU를 잡아먹지 않도록 함
+ * - 해싱하지 않는 중복확인/로그아웃은 제한하지 않음 (입력 중 중복확인 요청이 로그인 버킷을 비우지 않도록)
+ * - 계정(email)별 제한은 요청 바디를 읽어야 해서 AuthServiceImpl.login에서 처리
+ * - 프록시 뒤에서는 server.forward-headers-strategy 설정으로 getRemoteAddr()가 실제 클라이언트 IP
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AuthRateLimitFilter extends OncePerRequestFilter {
+
+    private final AuthRateLimiter rateLimiter;
+
+    private final ObjectMapper objectMapper;
+    private final CommonResponseMapper responseMapper;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String ip = request.getRemoteAddr();
+
+        if (!rateLimiter.tryAcquireIp(ip)) {
+            log.warn("[AuthRateLimitFilter] 요청 제한 - ip: {}, path: {}", ip, request.getRequestURI());
+
+            response.setStatus(ErrorCode.TOO_MANY_REQUESTS.getStatus().value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(rateLimiter.ipRetryAfterSeconds()));
+            response.setContentType("application/json;charset=UTF-8");
+            CommonErrorDto dto = responseMapper.createError(ErrorCode.TOO_MANY_REQUESTS, ErrorCode.TOO_MANY_REQUESTS.getMessage());
+            response.getWriter().write(objectMapper.writeValueAsString(dto));
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return "OPTIONS".equalsIgnoreCase(request.getMethod());
+    }
+
+}
@@ -0,0 +1,227 @@
+package boot.kakaotech.communitybe.auth.filter;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * "METHOD /path" 패턴 목록을 세그먼트 trie로 미리 컴파일한 matcher
+ * - 리터럴 세그먼트, 세그먼트 하나 전체를 받는 '*' / '{var}', 마지막 '**'만 trie로 처리
+ * - 그 외 패턴('*.png', '{var:regex}', 중간의 '**' 등)은 PathPattern으로 그대로 매칭
+ * - 인코딩(%)이나 matrix 변수(;)가 있는 URI는 PathPattern과 결과가 달라질 수 있어 PathPattern으로 매칭
+ * - 메서드가 없는 패턴은 모든 메서드에 적용
+ */
+class CompiledPathMatcher {
+
+    private static final String ANY_METHOD = "*";
+
+    private final Node root = new Node();
+    private final List<FallbackPattern> fallbacks = new ArrayList<>();
+    private final List<FallbackPattern> allPatterns = new ArrayList<>();
+
+    CompiledPathMatcher(List<String> rawPatterns, PathPatternParser parser) {
+        if (rawPatterns == null) {
+            return;
+        }
+
+        for (String raw : rawPatterns) {
+            String trimmed = raw.trim();
+            int space = trimmed.indexOf(' ');
+            String method = space < 0 ? ANY_METHOD : trimmed.substring(0, space).toUpperCase(Locale.ROOT);
+            String path = space < 0 ? trimmed : trimmed.substring(space + 1).trim();
+
+            FallbackPattern pattern = new FallbackPattern(method, parser.parse(path));
+            allPatterns.add(pattern);
+
+            if (!insert(method, path)) {
+                fallbacks.add(pattern);
+            }
+        }
+    }
+
+    boolean isEmpty() {
+        return allPatterns.isEmpty();
+    }
+
+    /**
+     * 모든 패턴이 주어진 메서드로만 한정돼 있는지 확인하는 메서드 (메서드 없는 패턴은 false)
+     *
+     * @param methods
+     * @return
+     */
+    boolean isLimitedTo(Set<String> methods) {
+        return allPatterns.stream().allMatch(p -> methods.contains(p.method()));
+    }
+
+    /**
+     * 요청 메서드와 URI가 패턴 중 하나와 일치하는지 확인하는 메서드
+     *
+     * @param method
+     * @param uri
+     * @return
+     */
+    boolean matches(String method, String uri) {
+        if (allPatterns.isEmpty()) {
+            return false;
+        }
+
+        if (uri.indexOf('%') >= 0 || uri.indexOf(';') >= 0) {
+            PathContainer container = PathContainer.parsePath(uri);
+            return allPatterns.stream().anyMatch(p -> p.matches(method, container));
+        }
+
+        if (matchTrie(method, uri)) {
+            return true;
+        }
+
+        if (fallbacks.isEmpty()) {
+            return false;
+        }
+
+        PathContainer container = PathContainer.parsePath(uri);
+        return fallbacks.stream().anyMatch(p -> p.matches(method, container));
+    }
+
+    /**
+     * 패턴을 trie에 넣는 메서드
+     * trie로 표현할 수 없는 패턴이면 아무것도 넣지 않고 false 반환
+     *
+     * @param method
+     * @param path
+     * @return
+     */
+    private boolean insert(String method, String path) {
+        String[] segments = split(path);
+        if (segments == null) {
+            return false;
+        }
+
+        for (int i = 0; i < segments.length; i++) {
+            if (!isSimple(segments[i], i == segments.length - 1)) {
+                return false;
+            }
+        }
+
+        Node node = root;
+        for (String segment : segments) {
+            if ("**".equals(segment)) {
+                node.catchAllMethods.add(method);
+                return true;
+            }
+
+            if ("*".equals(segment) || isVariable(segment)) {
+                if (node.wildcard == null) {
+                    node.wildcard = new Node();
+                }
+                node = node.wildcard;
+            } else {
+                node = node.literals.computeIfAbsent(segment, s -> new Node());
+            }
+        }
+        node.terminalMethods.add(method);
+
+        return true;
+    }
+
+    private boolean matchTrie(String method, String uri) {
+        String[] segments = split(uri);
+        if (segments == null) {
+            return false;
+        }
+
+        return match(root, segments, 0, method);
+    }
+
+    private boolean match(Node node, String[] segments, int index, String method) {
+        if (allows(node.catchAllMethods, method)) {
+            return true;
+        }
+
+        if (index == segments.length) {
+            return allows(node.terminalMethods, method);
+        }
+
+        String segment = segments[index];
+        Node literal = node.literals.get(segment);
+        if (literal != null && match(literal, segments, index + 1, method)) {
+            return true;
+        }
+
+        return node.wildcard != null && !segment.isEmpty() && match(node.wildcard, segments, index + 1, method);
+    }
+
+    private static boolean allows(Set<String> methods, String method) {
+        return !methods.isEmpty() && (methods.contains(ANY_METHOD) || methods.contains(method.toUpperCase(Locale.ROOT)));
+    }
+
+    /**
+     * 절대 경로를 세그먼트로 나누는 메서드
+     * 마지막 '/'는 빈 세그먼트로 남겨서 "/a"와 "/a/"를 구분 (PathPattern 기본 동작과 같음)
+     *
+     * @param path
+     * @return '/'로 시작하지 않으면 null
+     */
+    private static String[] split(String path) {
+        if (path.isEmpty() || path.charAt(0) != '/') {
+            return null;
+        }
+
+        if (path.length() == 1) {
+            return new String[0];
+        }
+
+        return path.substring(1).split("/", -1);
+    }
+
+    private static boolean isSimple(String segment, boolean last) {
+        if ("**".equals(segment)) {
+            return last;
+        }
+
+        if ("*".equals(segment) || isVariable(segment)) {
+            return true;
+        }
+
+        for (int i = 0; i < segment.length(); i++) {
+            char c = segment.charAt(i);
+            if (c == '*' || c == '?' || c == '{' || c == '}' || c == '%' || c == ';') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isVariable(String segment) {
+        return segment.length() > 2
+                && segment.charAt(0) == '{'
+                && segment.charAt(segment.length() - 1) == '}'
+                && segment.indexOf(':') < 0
+                && segment.charAt(1) != '*';
+    }
+
+    private static class Node {
+
+        private final Map<String, Node> literals = new HashMap<>();
+        private Node wildcard;
+        private final Set<String> terminalMethods = new HashSet<>();
+        private final Set<String> catchAllMethods = new HashSet<>();
+
+    }
+
+    private record FallbackPattern(String method, PathPattern pattern) {
+
+        private boolean matches(String requestMethod, PathContainer path) {
+            return (ANY_METHOD.equals(method) || method.equalsIgnoreCase(requestMethod)) && pattern.matches(path);
+        }
+
+    }
+
+}
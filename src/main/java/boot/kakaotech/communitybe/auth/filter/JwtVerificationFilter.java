@@ -3,18 +3,19 @@ package boot.kakaotech.communitybe.auth.filter;
 import boot.kakaotech.communitybe.auth.dto.Token;
 import boot.kakaotech.communitybe.auth.jwt.JwtProvider;
 import boot.kakaotech.communitybe.auth.jwt.JwtVerifier;
-import boot.kakaotech.communitybe.auth.jwt.TokenName;
+import boot.kakaotech.communitybe.auth.jwt.VerifiedClaims;
+import boot.kakaotech.communitybe.auth.principal.PrincipalCache;
 import boot.kakaotech.communitybe.common.CommonErrorDto;
 import boot.kakaotech.communitybe.common.CommonResponseMapper;
 import boot.kakaotech.communitybe.common.exception.BusinessException;
 import boot.kakaotech.communitybe.common.exception.ErrorCode;
 import boot.kakaotech.communitybe.common.properties.JwtProperty;
 import boot.kakaotech.communitybe.user.entity.User;
-import boot.kakaotech.communitybe.user.repository.UserRepository;
 import boot.kakaotech.communitybe.common.util.CookieUtil;
 import boot.kakaotech.communitybe.common.util.ThreadLocalContext;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -23,20 +24,22 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.server.PathContainer;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
-import org.springframework.web.util.pattern.PathPattern;
 import org.springframework.web.util.pattern.PathPatternParser;
 
 import java.io.IOException;
-import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class JwtVerificationFilter extends OncePerRequestFilter {
 
+    private static final String REQUEST_CLASS_ATTRIBUTE = JwtVerificationFilter.class.getName() + ".REQUEST_CLASS";
+    private static final Set<String> READ_ONLY_METHODS = Set.of("GET", "HEAD");
+
     private final JwtProperty jwtProperty;
 
     private final JwtVerifier verifier;
@@ -44,46 +47,57 @@ public class JwtVerificationFilter extends OncePerRequestFilter {
     private final CookieUtil cookieUtil;
     private final ThreadLocalContext context;
 
-    private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
 
     private final ObjectMapper objectMapper;
     private final CommonResponseMapper responseMapper;
 
-    private List<PathPattern> excludedPatterns;
+    private CompiledPathMatcher excludedMatcher;
+    private CompiledPathMatcher claimsOnlyMatcher;
+    private final AtomicLong debugLogCounter = new AtomicLong();
     private final JwtProvider jwtProvider;
 
+    /**
+     * 패턴 컴파일
+     * - claims-only 요청은 탈퇴 여부를 확인하지 않으므로 조회(GET/HEAD) 패턴만 허용, 그 외 메서드가 있으면 시작 실패
+     */
     @PostConstruct
     private void init() {
-        this.excludedPatterns = jwtProperty.getExcludedPatterns()
-                .stream()
-                .map(parser::parse)
-                .toList();
-        log.info("[JwtVerificationFilter] excludedPatterns raw = {}", jwtProperty.getExcludedPatterns());
-        excludedPatterns.forEach(p -> log.info("[JwtVerificationFilter] compiled pattern = {}", p));
+        this.excludedMatcher = new CompiledPathMatcher(jwtProperty.getExcludedPatterns(), parser);
+        this.claimsOnlyMatcher = new CompiledPathMatcher(jwtProperty.getClaimsOnlyPatterns(), parser);
+        if (!claimsOnlyMatcher.isLimitedTo(READ_ONLY_METHODS)) {
+            throw new IllegalStateException("jwt.claims-only-patterns는 GET/HEAD 요청 패턴만 가능 - " + jwtProperty.getClaimsOnlyPatterns());
+        }
+        log.info("[JwtVerificationFilter] excludedPatterns = {}, claimsOnlyPatterns = {}",
+                jwtProperty.getExcludedPatterns(), jwtProperty.getClaimsOnlyPatterns());
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
-        log.info("[JwtVerificationFilter] 토큰 검증 시작");
+        if (sampleDebugLog()) {
+            log.debug("[JwtVerificationFilter] 토큰 검증 시작 - {} {}", request.getMethod(), request.getRequestURI());
+        }
         try {
-            if ("OPTIONS".equalsIgnoreCase(request.getMethod())) {
+            String accessToken = getAuthHeader(request);
+            if (request.getAttribute(REQUEST_CLASS_ATTRIBUTE) == RequestClass.EXCLUDED) {
+                authenticateOptionally(accessToken);
                 filterChain.doFilter(request, response);
                 return;
             }
 
-            String accessToken = getAuthHeader(request);
             if (accessToken == null) {
-                log.info("[JwtVerificationFilter] Access Token 없음, rtr 시도");
+                log.debug("[JwtVerificationFilter] Access Token 없음, rtr 시도");
 
                 if (!tryAuthenticateWithRefresh(request, response)) {
-                    log.info("@@@@@@@@@@ false 나옴");
                     return;
                 }
             } else {
                 try {
-                    processAccessToken(accessToken, response);
+                    if (!processAccessToken(accessToken, request, response)) {
+                        return;
+                    }
                 } catch (ExpiredJwtException e) {
-                    log.info("[JwtVerificationFilter] Access Token 만료");
+                    log.debug("[JwtVerificationFilter] Access Token 만료");
 
                     if (!tryAuthenticateWithRefresh(request, response)) {
                         return;
@@ -97,15 +111,84 @@ public class JwtVerificationFilter extends OncePerRequestFilter {
         }
     }
 
+    /**
+     * 필터를 건너뛸 요청인지 확인하는 메서드
+     * - CORS preflight(OPTIONS)는 분류 없이 바로 통과
+     * - 인증 제외 경로라도 Bearer 토큰이 있으면 건너뛰지 않고 선택적 인증 (목록의 "내가 좋아요 눌렀는지" 등에 사용)
+     * - 분류 결과는 request attribute에 담아 doFilterInternal에서 다시 계산하지 않음
+     *
+     * @param request
+     * @return
+     */
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
-        String path = request.getRequestURI();
-        PathContainer container = PathContainer.parsePath(path);
+        if ("OPTIONS".equalsIgnoreCase(request.getMethod())) {
+            return true;
+        }
+
+        RequestClass requestClass = classify(request.getMethod(), request.getRequestURI());
+        request.setAttribute(REQUEST_CLASS_ATTRIBUTE, requestClass);
+
+        return requestClass == RequestClass.EXCLUDED && getAuthHeader(request) == null;
+    }
+
+    /**
+     * 인증 제외 경로에서 access token이 유효하면 user id만 세팅하는 메서드
+     * - 제외 경로는 비로그인도 허용하므로 토큰이 잘못됐거나 만료돼도 에러 응답이나 refresh 없이 비로그인으로 진행
+     *
+     * @param accessToken
+     */
+    private void authenticateOptionally(String accessToken) {
+        if (accessToken == null) {
+            return;
+        }
+
+        try {
+            VerifiedClaims claims = verifier.verify(accessToken);
+            context.setUserId(claims.userId(), principalCache::load);
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("[JwtVerificationFilter] 인증 제외 경로의 access token 무시 - {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 요청을 인증 방식별로 분류하는 메서드
+     * - excluded → claims-only 순서로 컴파일된 matcher로 확인
+     * - URI별로 결과를 캐시하지 않음 (/api/posts/{postId}처럼 값이 들어간 URI는 키가 끝없이 늘어나 hit가 거의 없음)
+     *
+     * @param method
+     * @param uri
+     * @return
+     */
+    private RequestClass classify(String method, String uri) {
+        RequestClass requestClass;
+        if (excludedMatcher.matches(method, uri)) {
+            requestClass = RequestClass.EXCLUDED;
+        } else if (claimsOnlyMatcher.matches(method, uri)) {
+            requestClass = RequestClass.CLAIMS_ONLY;
+        } else {
+            requestClass = RequestClass.AUTHENTICATED;
+        }
+
+        if (sampleDebugLog()) {
+            log.debug("[JwtVerificationFilter] 요청 분류 - {} {} -> {}", method, uri, requestClass);
+        }
+
+        return requestClass;
+    }
 
-        boolean skip = excludedPatterns.stream().anyMatch(p -> p.matches(container));
-        log.info("[JwtVerificationFilter] shouldNotFilter path={}, skip={}", path, skip);
+    /**
+     * 요청마다 찍히는 로그를 N건 중 1건만 남기도록 샘플링하는 메서드
+     *
+     * @return
+     */
+    private boolean sampleDebugLog() {
+        if (!log.isDebugEnabled()) {
+            return false;
+        }
 
-        return excludedPatterns.stream().anyMatch(p -> p.matches(container));
+        int sampleRate = Math.max(1, jwtProperty.getFilter().getDebugLogSampleRate());
+        return debugLogCounter.getAndIncrement() % sampleRate == 0;
     }
 
     private boolean tryAuthenticateWithRefresh(HttpServletRequest request, HttpServletResponse response) throws IOException {
@@ -123,27 +206,34 @@ public class JwtVerificationFilter extends OncePerRequestFilter {
                 .getCookie(request, jwtProperty.getName().getRefreshToken());
 
         if (cookie == null) {
-            log.info("[JwtVerificationFilter] Refresh Token 쿠키가 없습니다.");
+            log.debug("[JwtVerificationFilter] Refresh Token 쿠키가 없습니다.");
             return false;
         }
 
         String refreshToken = cookie.getValue();
 
         if (refreshToken == null) {
-            log.info("[JwtVerificationFilter] Refresh Token도 없습니다.");
+            log.debug("[JwtVerificationFilter] Refresh Token도 없습니다.");
+            return false;
+        }
+
+        VerifiedClaims claims;
+        try {
+            claims = verifier.verify(refreshToken);
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("[JwtVerificationFilter] 유효하지 않은 Refresh Token - {}", e.getMessage());
             return false;
         }
 
-        int userId = verifier.extractUserIdFromToken(refreshToken);
-        User user = userRepository.findById(userId).orElse(null);
+        User user = principalCache.load(claims.userId());
         if (user == null) {
-            log.info("[JwtVerificationFilter] 해당 유저가 없습니다.");
+            log.debug("[JwtVerificationFilter] 해당 유저가 없습니다.");
             return false;
         }
 
         try {
             // RTR 수행
-            Token rotated = jwtProvider.rotateRefreshToken(refreshToken, user);
+            Token rotated = jwtProvider.rotateRefreshToken(refreshToken, claims, user);
 
             // 컨텍스트 세팅
             context.set(user);
@@ -169,27 +259,62 @@ public class JwtVerificationFilter extends OncePerRequestFilter {
 
     /**
      * Access Token 검증하고, 검증되었으면 thread local에 user 세팅하는 메서드
+     * - 토큰은 한 번만 파싱 (서명/만료 검증 포함)
+     * - claims-only 요청(조회 전용)이면 user id만 세팅하고 User는 실제로 필요할 때 캐시에서 가져옴
+     *   (탈퇴 여부는 이때 확인되므로, 변경 요청은 claims-only로 두지 않음)
+     * - 그 외 요청은 PrincipalCache에서 유저를 가져와 세팅 (없거나 탈퇴한 유저면 실패)
+     * - 만료된 토큰이면 ExpiredJwtException을 그대로 던져 호출자가 refresh 시도
+     * - 그 외 실패는 에러 응답을 쓰고 false 반환 (호출자는 필터 체인을 진행하면 안 됨)
      *
      * @param accessToken
      * @param response
+     * @return 인증 성공 여부
      * @throws IOException
      */
-    private void processAccessToken(String accessToken, HttpServletResponse response) throws IOException {
-        int userId = verifier.extractUserIdFromToken(accessToken);
-        User user = userRepository.findById(userId).orElse(null);
-
-        if (user == null) {
+    private boolean processAccessToken(String accessToken, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        VerifiedClaims claims;
+        try {
+            claims = verifier.verify(accessToken);
+        } catch (ExpiredJwtException e) {
+            throw e;
+        } catch (JwtException | IllegalArgumentException e) {
             setErrorResponse(response, HttpServletResponse.SC_UNAUTHORIZED, ErrorCode.INVALID_TOKEN, "잘못된 access token입니다.");
-            return;
+            return false;
         }
 
-        try {
-            verifier.isValidToken(accessToken, user);
-        } catch (BusinessException e) {
+        if (isClaimsOnly(request)) {
+            context.setUserId(claims.userId(), principalCache::load);
+            return true;
+        }
+
+        User user = principalCache.load(claims.userId());
+
+        if (user == null) {
             setErrorResponse(response, HttpServletResponse.SC_UNAUTHORIZED, ErrorCode.INVALID_TOKEN, "잘못된 access token입니다.");
+            return false;
         }
 
         context.set(user);
+        return true;
+    }
+
+    /**
+     * claims-only 패턴에 해당하는 요청인지 확인하는 메서드
+     *
+     * @param request
+     * @return
+     */
+    private boolean isClaimsOnly(HttpServletRequest request) {
+        if (claimsOnlyMatcher.isEmpty()) {
+            return false;
+        }
+
+        Object requestClass = request.getAttribute(REQUEST_CLASS_ATTRIBUTE);
+        if (requestClass == null) {
+            requestClass = classify(request.getMethod(), request.getRequestURI());
+        }
+
+        return requestClass == RequestClass.CLAIMS_ONLY;
     }
 
     /**
@@ -225,4 +350,10 @@ public class JwtVerificationFilter extends OncePerRequestFilter {
         response.getWriter().write(objectMapper.writeValueAsString(dto));
     }
 
+    private enum RequestClass {
+
+        EXCLUDED, CLAIMS_ONLY, AUTHENTICATED
+
+    }
+
 }
@@ -1,29 +1,41 @@
 package boot.kakaotech.communitybe.auth.jwt;
 
 import boot.kakaotech.communitybe.auth.dto.Token;
+import boot.kakaotech.communitybe.auth.token.RefreshTokenStore;
 import boot.kakaotech.communitybe.common.exception.BusinessException;
 import boot.kakaotech.communitybe.common.exception.ErrorCode;
 import boot.kakaotech.communitybe.common.properties.JwtProperty;
-import boot.kakaotech.communitybe.common.util.KeyValueStore;
+import boot.kakaotech.communitybe.common.util.ExpiringCache;
 import boot.kakaotech.communitybe.user.entity.User;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.concurrent.locks.ReentrantLock;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class JwtProvider {
 
+    private static final int ROTATION_LOCK_STRIPES = 64;
+    private static final int RECENT_ROTATION_MAX_SIZE = 10_000;
+
     private final JwtProperty jwtProperty;
     private final JwtVerifier verifier;
-    private final KeyValueStore kvStore;
+    private final RefreshTokenStore refreshTokenStore;
+
+    private final ReentrantLock[] rotationLocks = createRotationLocks();
+    private ExpiringCache<String, Token> recentRotations;
+
+    @PostConstruct
+    public void init() {
+        recentRotations = new ExpiringCache<>(RECENT_ROTATION_MAX_SIZE);
+    }
 
     /**
      * 토큰 생성하는 메서드, Enum으로 정의하여 access token인지 refresh token인지 판별하여 생성
@@ -44,50 +56,102 @@ public class JwtProvider {
                 .claim("nickname", user.getNickname())
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expirationTime))
-                .signWith(getSigninKey())
+                .signWith(verifier.getSigningKey())
                 .compact();
     }
 
     /**
-     * 리프레시토큰 생성 후 인메모리에 저장 후 반환하는 메서드
+     * 리프레시토큰 생성 후 RefreshTokenStore에 저장 후 반환하는 메서드
      *
      * @param user
      * @return
      */
     public String generateRefreshToken(User user) {
         String token = generateToken(user, TokenName.REFRESH_TOKEN);
-        kvStore.saveRefreshToken(user.getId(), token);
+        refreshTokenStore.save(user.getId(), token, refreshTokenExpiresAt());
         return token;
     }
 
-    public Token rotateRefreshToken(String refreshToken, User user) {
-        verifier.isValidToken(refreshToken, user);
-
-        int userId = user.getId();
-        String stored = kvStore.getRefreshToken(userId);
-
-        if (stored == null || !stored.equals(refreshToken)) {
-            throw new BusinessException(ErrorCode.INVALID_TOKEN);
+    /**
+     * 리프레시토큰 회전하는 메서드
+     * - 토큰 서명/만료는 호출자가 verify()로 이미 검증한 클레임을 받아서 다시 파싱하지 않음
+     * - access token 만료 직후 브라우저가 여러 요청을 동시에 보내는 경우를 위해
+     *   1. 같은 유저의 회전은 락으로 한 번에 하나씩만 처리
+     *   2. 방금 교체된 토큰이 grace window(jwt.rotation-grace-ms) 안에 다시 오면 새로 회전하지 않고 같은 토큰 쌍 반환
+     *   (락은 인스턴스 단위이므로 다른 인스턴스로 간 요청은 grace window 없이 기존처럼 실패할 수 있음)
+     *
+     * @param refreshToken
+     * @param claims
+     * @param user
+     * @return
+     */
+    public Token rotateRefreshToken(String refreshToken, VerifiedClaims claims, User user) {
+        verifier.isValidToken(claims, user);
+
+        ReentrantLock lock = rotationLocks[Math.floorMod(user.getId(), ROTATION_LOCK_STRIPES)];
+        lock.lock();
+        try {
+            Token recent = recentRotations.get(refreshToken);
+            if (recent != null) {
+                return recent;
+            }
+
+            String newAccessToken = generateToken(user, TokenName.ACCESS_TOKEN);
+            String newRefreshToken = generateToken(user, TokenName.REFRESH_TOKEN);
+
+            if (!refreshTokenStore.rotate(user.getId(), refreshToken, newRefreshToken, refreshTokenExpiresAt())) {
+                throw new BusinessException(ErrorCode.INVALID_TOKEN);
+            }
+
+            Token rotated = new Token(newAccessToken, newRefreshToken);
+            recentRotations.put(refreshToken, rotated, System.currentTimeMillis() + jwtProperty.getRotationGraceMs());
+
+            return rotated;
+        } finally {
+            lock.unlock();
         }
+    }
 
-        kvStore.deleteRefreshToken(userId);
+    /**
+     * 리프레시토큰 폐기하는 메서드 (로그아웃)
+     * - 서명이 유효한 토큰일 때만 처리하고, 잘못됐거나 만료된 토큰은 무시
+     * - grace window 안에서 이미 회전된 토큰이면 회전 결과로 받은 새 토큰을 폐기
+     * - grace window 항목도 지워서 로그아웃 직후 같은 토큰으로 새 토큰 쌍을 받지 못하게 함
+     *
+     * @param refreshToken
+     */
+    public void revokeRefreshToken(String refreshToken) {
+        VerifiedClaims claims;
+        try {
+            claims = verifier.verify(refreshToken);
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("[JwtProvider] 폐기할 Refresh Token이 유효하지 않음 - {}", e.getMessage());
+            return;
+        }
 
-        String newAccessToken = generateToken(user, TokenName.ACCESS_TOKEN);
-        String newRefreshToken = generateToken(user, TokenName.REFRESH_TOKEN);
+        ReentrantLock lock = rotationLocks[Math.floorMod(claims.userId(), ROTATION_LOCK_STRIPES)];
+        lock.lock();
+        try {
+            Token recent = recentRotations.get(refreshToken);
+            recentRotations.invalidate(refreshToken);
 
-        kvStore.saveRefreshToken(userId, newRefreshToken);
+            String current = recent != null ? recent.getRefreshToken() : refreshToken;
+            refreshTokenStore.remove(claims.userId(), current);
+        } finally {
+            lock.unlock();
+        }
+    }
 
-        return new Token(newAccessToken, newRefreshToken);
+    private static ReentrantLock[] createRotationLocks() {
+        ReentrantLock[] locks = new ReentrantLock[ROTATION_LOCK_STRIPES];
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        return locks;
     }
 
-    /**
-     * JWT 사인용 키값 반환하는 메서드
-     *
-     * @return
-     */
-    public SecretKey getSigninKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(jwtProperty.getSecret());
-        return Keys.hmacShaKeyFor(keyBytes);
+    private long refreshTokenExpiresAt() {
+        return System.currentTimeMillis() + jwtProperty.getExpireTime().getRefreshTokenExpireTime();
     }
 
 }
@@ -5,81 +5,73 @@ import boot.kakaotech.communitybe.common.exception.ErrorCode;
 import boot.kakaotech.communitybe.common.properties.JwtProperty;
 import boot.kakaotech.communitybe.user.entity.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
-import java.util.Date;
 
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class JwtVerifier {
 
-    private final JwtProperty property;
+    private final SecretKey signingKey;
+
+    private final JwtParser parser;
 
     /**
-     * 토큰 유효성검사 메서드
-     *
-     * 1. userId 토큰에서 추출
-     * 2. userId가 없거나 전달받은 유저의 id와 다르면 throw error
+     * 시크릿은 실행 중 바뀌지 않으므로 키와 parser를 한 번만 만들어 재사용
+     * (JwtParser는 불변이라 여러 스레드가 공유해도 안전)
      *
-     * @param token
-     * @param user
+     * @param property
      */
-    public void isValidToken(String token, User user) {
-        Integer userId = extractUserIdFromToken(token);
-
-        if (userId == null || !userId.equals(user.getId()) || isExpiredToken(token)) {
-            throw new BusinessException(ErrorCode.INVALID_TOKEN);
-        }
+    public JwtVerifier(JwtProperty property) {
+        byte[] keyBytes = Decoders.BASE64.decode(property.getSecret());
+        this.signingKey = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
     }
 
     /**
-     * 토큰의 subject인 userId를 Integer로 형변환 후 반환하는 메서드
+     * 토큰을 한 번만 파싱해서 서명과 만료를 검증하고 클레임 반환하는 메서드
+     * - 만료된 토큰이면 ExpiredJwtException, 그 외 잘못된 토큰이면 JwtException
      *
      * @param token
      * @return
      */
-    public Integer extractUserIdFromToken(String token) {
-        Claims claims = getClaimsFromToken(token);
+    public VerifiedClaims verify(String token) {
+        Claims claims = parser.parseSignedClaims(token).getPayload();
 
-        return Integer.parseInt(claims.getSubject());
+        return new VerifiedClaims(
+                Integer.parseInt(claims.getSubject()),
+                claims.get("nickname", String.class),
+                claims.getExpiration().toInstant()
+        );
     }
 
     /**
-     * 만료된 토큰인지 확인하는 메서드
+     * 검증된 토큰이 전달받은 유저의 것인지 확인하는 메서드
      *
-     * @param token
-     * @return
+     * @param claims
+     * @param user
      */
-    public boolean isExpiredToken(String token) {
-        Claims claims = getClaimsFromToken(token);
-
-        Date expiration = claims.getExpiration();
-        return expiration.before(new Date());
+    public void isValidToken(VerifiedClaims claims, User user) {
+        if (claims.userId() != user.getId()) {
+            throw new BusinessException(ErrorCode.INVALID_TOKEN);
+        }
     }
 
     /**
-     * 토큰에서 모든 Claim들을 추출하여 반환하는 메서드
+     * JWT 사인용 키값 반환하는 메서드
      *
-     * @param token
      * @return
      */
-    private Claims getClaimsFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigninKey())
-                .build()
-                .parseSignedClaims(token).getPayload();
-    }
-
-    private SecretKey getSigninKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(property.getSecret());
-        return Keys.hmacShaKeyFor(keyBytes);
+    public SecretKey getSigningKey() {
+        return signingKey;
     }
 
 }
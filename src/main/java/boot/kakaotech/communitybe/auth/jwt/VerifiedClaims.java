@@ -0,0 +1,12 @@
+package boot.kakaotech.communitybe.auth.jwt;
+
+import java.time.Instant;
+
+/**
+ * 서명과 만료 검증을 통과한 토큰의 클레임
+ *
+ * @param userId     subject
+ * @param nickname   nickname 클레임
+ * @param expiration 만료 시각
+ */
+public record VerifiedClaims(int userId, String nickname, Instant expiration) {}
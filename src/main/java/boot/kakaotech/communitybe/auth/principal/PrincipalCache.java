@@ -0,0 +1,141 @@
+package boot.kakaotech.communitybe.auth.principal;
+
+import boot.kakaotech.communitybe.common.properties.JwtProperty;
+import boot.kakaotech.communitybe.common.util.ExpiringCache;
+import boot.kakaotech.communitybe.user.entity.User;
+import boot.kakaotech.communitybe.user.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 인증된 요청의 유저 정보 캐시
+ * - 요청마다 userRepository.findById를 하지 않도록 user id 기준으로 TTL 동안 보관
+ * - 캐시에는 인가와 응답에 필요한 필드만 담은 불변 스냅샷을 두고 요청마다 새 User 객체를 만들어 반환
+ *   (요청끼리 같은 엔티티 객체를 공유하지 않도록, 비밀번호 해시는 캐시에 두지 않음)
+ * - 반환하는 User는 비밀번호가 비어 있는 detached 객체이므로 비밀번호 확인/수정은 DB에서 다시 읽은 엔티티로 해야 함
+ * - 유저 정보가 바뀌거나 탈퇴하면 invalidate() 호출, 탈퇴(soft delete)한 유저는 로딩 시 거부
+ * - 변경이 커밋되기 전에 시작된 로딩이 커밋 후 무효화 다음에 옛 스냅샷을 다시 넣지 않도록,
+ *   user id로 나눈 stripe마다 무효화 횟수를 세고 로딩 전후 값이 다르면 넣은 값을 다시 지움
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PrincipalCache {
+
+    private final UserRepository userRepository;
+
+    private final JwtProperty property;
+
+    private static final int STRIPES = 64;
+
+    private final AtomicLongArray invalidations = new AtomicLongArray(STRIPES);
+
+    private ExpiringCache<Integer, UserSnapshot> cache;
+
+    @PostConstruct
+    public void init() {
+        cache = new ExpiringCache<>(property.getPrincipalCache().getMaxSize());
+    }
+
+    /**
+     * user id로 유저 반환하는 메서드
+     * 1. 캐시에 있으면 스냅샷으로 User 생성해서 반환
+     * 2. 없으면 DB 조회, 없거나 탈퇴한 유저면 null
+     * 3. 조회 결과 캐시에 적재
+     * 4. 조회하는 동안 무효화가 있었으면 적재한 값 다시 제거
+     *    (적재 후에 확인하므로 확인 직후 무효화가 와도 그 무효화가 적재한 값을 지움)
+     *
+     * @param userId
+     * @return
+     */
+    public User load(int userId) {
+        UserSnapshot snapshot = cache.get(userId);
+
+        if (snapshot == null) {
+            long version = invalidations.get(stripe(userId));
+            User user = userRepository.findById(userId).orElse(null);
+
+            if (user == null || user.getDeletedAt() != null) {
+                return null;
+            }
+
+            snapshot = UserSnapshot.from(user);
+            long expiresAt = System.currentTimeMillis() + property.getPrincipalCache().getTtl().toMillis();
+            cache.put(userId, snapshot, expiresAt);
+
+            if (invalidations.get(stripe(userId)) != version) {
+                log.debug("[PrincipalCache] 로딩 중 무효화 발생, 캐시하지 않음 - userId: {}", userId);
+                cache.invalidate(userId);
+            }
+        }
+
+        return snapshot.toUser();
+    }
+
+    /**
+     * 유저 캐시 무효화하는 메서드
+     * - 바로 한 번 지우고, 트랜잭션 안이면 커밋 이후에 한 번 더 지움
+     *   (커밋 전에 다른 요청이 옛 값을 다시 적재하는 경우 방지)
+     *
+     * @param userId
+     */
+    public void invalidate(int userId) {
+        evict(userId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(userId);
+                }
+            });
+        }
+    }
+
+    private void evict(int userId) {
+        invalidations.incrementAndGet(stripe(userId));
+        cache.invalidate(userId);
+    }
+
+    private static int stripe(int userId) {
+        return Math.floorMod(userId, STRIPES);
+    }
+
+    private record UserSnapshot(
+            Integer id,
+            String email,
+            String nickname,
+            String profileImageKey,
+            LocalDateTime createdAt
+    ) {
+
+        private static UserSnapshot from(User user) {
+            return new UserSnapshot(
+                    user.getId(),
+                    user.getEmail(),
+                    user.getNickname(),
+                    user.getProfileImageKey(),
+                    user.getCreatedAt()
+            );
+        }
+
+        private User toUser() {
+            return User.builder()
+                    .id(id)
+                    .email(email)
+                    .nickname(nickname)
+                    .profileImageKey(profileImageKey)
+                    .createdAt(createdAt)
+                    .build();
+        }
+
+    }
+
+}
@@ -0,0 +1,79 @@
+package boot.kakaotech.communitybe.auth.ratelimit;
+
+import boot.kakaotech.communitybe.common.properties.RateLimitProperty;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 API용 rate limiter
+ * - 클라이언트 IP별, 계정(email)별로 token bucket을 따로 둠
+ * - 오래 쓰이지 않은 버킷은 주기적으로 제거해서 메모리가 무한히 늘지 않도록 함
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AuthRateLimiter {
+
+    private final RateLimitProperty property;
+
+    private final Map<String, TokenBucket> ipBuckets = new ConcurrentHashMap<>();
+    private final Map<String, TokenBucket> accountBuckets = new ConcurrentHashMap<>();
+
+    public boolean tryAcquireIp(String ip) {
+        return tryAcquire(ipBuckets, ip, property.getIp());
+    }
+
+    public boolean tryAcquireAccount(String email) {
+        return tryAcquire(accountBuckets, email.trim().toLowerCase(Locale.ROOT), property.getAccount());
+    }
+
+    /**
+     * IP 버킷이 다시 토큰 하나를 받기까지 걸리는 초
+     *
+     * @return
+     */
+    public long ipRetryAfterSeconds() {
+        return Math.max(1, (long) Math.ceil(60.0 / property.getIp().getRefillPerMinute()));
+    }
+
+    /**
+     * idle-timeout 동안 쓰이지 않은 버킷 제거하는 작업
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.sweep-interval-ms}")
+    public void sweepIdleBuckets() {
+        long now = System.nanoTime();
+        long idleNanos = property.getIdleTimeout().toNanos();
+        int before = ipBuckets.size() + accountBuckets.size();
+
+        ipBuckets.values().removeIf(bucket -> bucket.isIdle(now, idleNanos));
+        accountBuckets.values().removeIf(bucket -> bucket.isIdle(now, idleNanos));
+
+        int removed = before - ipBuckets.size() - accountBuckets.size();
+        if (removed > 0) {
+            log.debug("[AuthRateLimiter] idle 버킷 제거 - {}개", removed);
+        }
+    }
+
+    private boolean tryAcquire(Map<String, TokenBucket> buckets, String key, RateLimitProperty.Limit limit) {
+        if (!property.isEnabled()) {
+            return true;
+        }
+
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.computeIfAbsent(key, k -> new TokenBucket(
+                limit.getCapacity(),
+                limit.getRefillPerMinute() / (double) TimeUnit.MINUTES.toNanos(1),
+                now
+        ));
+
+        return bucket.tryConsume(now);
+    }
+
+}
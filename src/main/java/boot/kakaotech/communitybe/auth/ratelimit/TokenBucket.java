@@ -0,0 +1,62 @@
+package boot.kakaotech.communitybe.auth.ratelimit;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * lock-free token bucket
+ * - 상태(남은 토큰, 마지막 갱신 시각)를 불변 객체로 두고 CAS로 교체
+ * - 토큰은 시간에 비례해서 capacity까지 채워짐
+ */
+public class TokenBucket {
+
+    private final long capacity;
+    private final double refillPerNano;
+    private final AtomicReference<State> state;
+
+    public TokenBucket(long capacity, double refillPerNano, long nowNanos) {
+        this.capacity = capacity;
+        this.refillPerNano = refillPerNano;
+        this.state = new AtomicReference<>(new State(capacity, nowNanos));
+    }
+
+    /**
+     * 토큰 하나 꺼내는 메서드
+     *
+     * @param nowNanos
+     * @return 꺼냈으면 true, 남은 토큰이 없으면 false
+     */
+    public boolean tryConsume(long nowNanos) {
+        while (true) {
+            State current = state.get();
+            double tokens = refill(current, nowNanos);
+
+            if (tokens < 1) {
+                return false;
+            }
+
+            if (state.compareAndSet(current, new State(tokens - 1, nowNanos))) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 마지막 사용 이후 idleNanos 이상 지났는지 확인하는 메서드
+     * idle 시간이 가득 찰 때까지 걸리는 시간보다 길면 제거해도 새 버킷과 같음
+     *
+     * @param nowNanos
+     * @param idleNanos
+     * @return
+     */
+    public boolean isIdle(long nowNanos, long idleNanos) {
+        return nowNanos - state.get().updatedAtNanos() >= idleNanos;
+    }
+
+    private double refill(State current, long nowNanos) {
+        long elapsed = Math.max(0, nowNanos - current.updatedAtNanos());
+        return Math.min(capacity, current.tokens() + elapsed * refillPerNano);
+    }
+
+    private record State(double tokens, long updatedAtNanos) {}
+
+}
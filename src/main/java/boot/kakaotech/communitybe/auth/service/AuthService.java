@@ -4,6 +4,7 @@ import boot.kakaotech.communitybe.auth.dto.LoginRequest;
 import boot.kakaotech.communitybe.auth.dto.LoginResponse;
 import boot.kakaotech.communitybe.auth.dto.SignupRequest;
 import boot.kakaotech.communitybe.auth.dto.ValueDto;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 public interface AuthService {
@@ -16,6 +17,6 @@ public interface AuthService {
 
     boolean checkNickname(ValueDto value);
 
-    void logout(HttpServletResponse response);
+    void logout(HttpServletRequest request, HttpServletResponse response);
 
 }
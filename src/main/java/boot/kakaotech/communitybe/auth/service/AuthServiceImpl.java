@@ -6,16 +6,22 @@ import boot.kakaotech.communitybe.auth.dto.SignupRequest;
 import boot.kakaotech.communitybe.auth.dto.ValueDto;
 import boot.kakaotech.communitybe.auth.jwt.JwtProvider;
 import boot.kakaotech.communitybe.auth.jwt.TokenName;
+import boot.kakaotech.communitybe.auth.principal.PrincipalCache;
+import boot.kakaotech.communitybe.auth.ratelimit.AuthRateLimiter;
+import boot.kakaotech.communitybe.common.exception.BusinessException;
+import boot.kakaotech.communitybe.common.exception.ErrorCode;
 import boot.kakaotech.communitybe.common.encoder.PasswordEncoder;
 import boot.kakaotech.communitybe.common.properties.JwtProperty;
 import boot.kakaotech.communitybe.common.properties.S3Property;
 import boot.kakaotech.communitybe.common.s3.service.S3Service;
-import boot.kakaotech.communitybe.common.util.KeyValueStore;
 import boot.kakaotech.communitybe.common.validation.Validator;
 import boot.kakaotech.communitybe.user.entity.User;
+import boot.kakaotech.communitybe.user.index.TakenIdentifierIndex;
 import boot.kakaotech.communitybe.user.repository.UserRepository;
 import boot.kakaotech.communitybe.common.util.CookieUtil;
 import boot.kakaotech.communitybe.common.util.ThreadLocalContext;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -36,9 +42,11 @@ public class AuthServiceImpl implements AuthService {
     private final CookieUtil cookieUtil;
     private final Validator validator;
     private final ThreadLocalContext context;
-    private final KeyValueStore kvStore;
 
     private final PasswordEncoder passwordEncoder;
+    private final PrincipalCache principalCache;
+    private final TakenIdentifierIndex takenIdentifierIndex;
+    private final AuthRateLimiter rateLimiter;
 
     private final JwtProperty jwtProperty;
     private final S3Property s3Property;
@@ -76,6 +84,8 @@ public class AuthServiceImpl implements AuthService {
                 .build();
 
         userRepository.save(user); // 생성 시 save() 호출해야함
+        takenIdentifierIndex.addEmail(user.getEmail());
+        takenIdentifierIndex.addNickname(user.getNickname());
 
         String presignedURl = null;
         if (hasProfileImage) {
@@ -87,11 +97,12 @@ public class AuthServiceImpl implements AuthService {
 
     /**
      * 로그인 메서드
-     * 1. email로 User 조회
-     * 2. 유저 존재 여부, 비밀번호 일치 여부 확인
-     * 3. response 객체에 토큰 담기
-     * 4. 프로필 사진 GET용 presigned url 발급
-     * 5. LoginResponse 생성 후 반환
+     * 1. 계정별 요청 제한 확인
+     * 2. email로 User 조회
+     * 3. 유저 존재 여부, 비밀번호 일치 여부 확인
+     * 4. response 객체에 토큰 담기
+     * 5. 프로필 사진 GET용 presigned url 발급
+     * 6. LoginResponse 생성 후 반환
      *
      * @param response
      * @param loginRequest
@@ -101,15 +112,21 @@ public class AuthServiceImpl implements AuthService {
     public LoginResponse login(HttpServletResponse response, LoginRequest loginRequest) {
         log.info("[AuthService] 로그인 시작 - email: {}", loginRequest.getEmail());
 
+        if (loginRequest.getEmail() != null && !rateLimiter.tryAcquireAccount(loginRequest.getEmail())) {
+            throw new BusinessException(ErrorCode.TOO_MANY_REQUESTS);
+        }
+        // 계정별 시도 횟수 제한, 비밀번호 해싱 전에 거절
+
         User user = userRepository.findByEmail(loginRequest.getEmail()).orElse(null);
         // Email로 유저 조회
         validator.validateUserInfo(loginRequest, user);
         // 유저 존재 여부, 비밀번호 일치 여부 확인
+        rehashIfNeeded(user, loginRequest.getPassword());
+        // 오래된 해시 설정이면 현재 설정으로 다시 해싱
 
         String accessToken = provider.generateToken(user, TokenName.ACCESS_TOKEN);
         String refreshToken = provider.generateRefreshToken(user);
         // 토큰 생성
-        log.info("[AuthService] 리프레시토큰 저장됨 - refreshToken: {}", kvStore.getRefreshToken(user.getId()));
 
         cookieUtil.addCookie(
                 response,
@@ -130,16 +147,45 @@ public class AuthServiceImpl implements AuthService {
                 .build();
     }
 
+    /**
+     * 로그인에 성공한 유저의 비밀번호 해시가 오래된 설정이면 현재 설정으로 다시 저장하는 메서드
+     * - 평문 비밀번호를 알 수 있는 건 로그인 시점뿐이라 여기서 처리
+     * - 실패해도 로그인은 진행하고 다음 로그인 때 다시 시도
+     *
+     * @param user
+     * @param rawPassword
+     */
+    private void rehashIfNeeded(User user, String rawPassword) {
+        if (!passwordEncoder.needsRehash(user.getPassword())) {
+            return;
+        }
+
+        try {
+            user.setPassword(passwordEncoder.encode(rawPassword));
+            userRepository.save(user);
+            principalCache.invalidate(user.getId());
+        } catch (RuntimeException e) {
+            log.warn("[AuthService] 비밀번호 재해싱 실패 - userId: {} - {}", user.getId(), e.getMessage());
+        }
+    }
+
     /**
      * 로그아웃 API
-     * - ThreadLocal에 저장된 유저정보 삭제, 쿠키에서 Refresh Token 삭제
+     * 1. 쿠키의 Refresh Token을 RefreshTokenStore에서 폐기 (쿠키만 지우면 탈취된 토큰으로 계속 재발급 가능)
+     * 2. ThreadLocal에 저장된 유저정보 삭제, 쿠키에서 Refresh Token 삭제
      *
+     * @param request
      * @param response
      */
     @Override
-    public void logout(HttpServletResponse response) {
+    public void logout(HttpServletRequest request, HttpServletResponse response) {
         log.info("[AuthService] 로그아웃 시작");
 
+        Cookie refreshCookie = cookieUtil.getCookie(request, jwtProperty.getName().getRefreshToken());
+        if (refreshCookie != null) {
+            provider.revokeRefreshToken(refreshCookie.getValue());
+        }
+
         context.clear();
         cookieUtil.deleteCookie(response, jwtProperty.getName().getRefreshToken());
     }
@@ -150,9 +196,11 @@ public class AuthServiceImpl implements AuthService {
         log.info("[AuthService] 이메일 중복확인 시작 - email: {}", email);
 
         validator.validateEmail(email);
-        User user = userRepository.findByEmail(email).orElse(null);
+        if (!takenIdentifierIndex.mightBeTakenEmail(email)) {
+            return false;
+        }
 
-        return user != null;
+        return userRepository.existsByEmail(email);
     }
 
     @Override
@@ -161,9 +209,11 @@ public class AuthServiceImpl implements AuthService {
         log.info("[AuthService] 닉네임 중복확인 시작 - nickname: {}", nickname);
 
         validator.validateNickname(nickname);
-        User user = userRepository.findByNickname(nickname).orElse(null);
+        if (!takenIdentifierIndex.mightBeTakenNickname(nickname)) {
+            return false;
+        }
 
-        return user != null;
+        return userRepository.existsByNickname(nickname);
     }
 
 }
@@ -0,0 +1,330 @@
+package boot.kakaotech.communitybe.auth.token;
+
+import boot.kakaotech.communitybe.common.lifecycle.WriteBehindFlusher;
+import boot.kakaotech.communitybe.common.properties.JwtProperty;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 유저별 현재 유효한 리프레시토큰 저장소
+ * - user id(int) -> (토큰 SHA-256 해시, 만료 시각), 토큰 원문은 보관하지 않음
+ * - 만료는 hashed timer wheel로 처리해서 전체 항목을 훑지 않고 해당 칸에 걸린 항목만 확인
+ * - 주기적으로, 그리고 종료 시 로컬 파일에 바이너리 스냅샷을 남기고 시작 시 다시 읽어서 재시작해도 로그인 유지
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshTokenStore implements WriteBehindFlusher {
+
+    private static final int SNAPSHOT_MAGIC = 0x52545331; // "RTS1"
+    private static final int HASH_BYTES = 32;
+
+    private final JwtProperty property;
+
+    private final Map<Integer, StoredToken> tokens = new ConcurrentHashMap<>();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    private List<ConcurrentLinkedQueue<WheelItem>> wheel;
+    private long tickMs;
+    private long lastTick;
+
+    /**
+     * timer wheel 만들고 스냅샷 읽어오는 메서드
+     */
+    @PostConstruct
+    public void init() {
+        JwtProperty.RefreshTokenStore config = property.getRefreshTokenStore();
+
+        tickMs = config.getTickMs();
+        wheel = new ArrayList<>(config.getWheelSize());
+        for (int i = 0; i < config.getWheelSize(); i++) {
+            wheel.add(new ConcurrentLinkedQueue<>());
+        }
+        lastTick = System.currentTimeMillis() / tickMs;
+
+        loadSnapshot();
+    }
+
+    /**
+     * 유저의 리프레시토큰 저장하는 메서드 (기존 토큰은 대체)
+     *
+     * @param userId
+     * @param token
+     * @param expiresAtMillis
+     */
+    public void save(int userId, String token, long expiresAtMillis) {
+        StoredToken stored = new StoredToken(hash(token), expiresAtMillis);
+
+        tokens.put(userId, stored);
+        schedule(userId, expiresAtMillis);
+        dirty.set(true);
+    }
+
+    /**
+     * 제시된 토큰이 현재 저장된 토큰일 때만 새 토큰으로 바꾸는 메서드
+     * - 비교와 교체가 한 번에 일어나므로 같은 토큰으로 동시에 회전해도 한 요청만 성공
+     *
+     * @param userId
+     * @param presented
+     * @param newToken
+     * @param expiresAtMillis
+     * @return 교체 성공 여부
+     */
+    public boolean rotate(int userId, String presented, String newToken, long expiresAtMillis) {
+        StoredToken current = tokens.get(userId);
+
+        if (current == null || !current.matches(hash(presented)) || current.isExpired(System.currentTimeMillis())) {
+            return false;
+        }
+
+        StoredToken next = new StoredToken(hash(newToken), expiresAtMillis);
+        if (!tokens.replace(userId, current, next)) {
+            return false;
+        }
+
+        schedule(userId, expiresAtMillis);
+        dirty.set(true);
+        return true;
+    }
+
+    /**
+     * 유저의 리프레시토큰 제거하는 메서드 (회원 탈퇴 등 계정을 막을 때)
+     * - 트랜잭션 안이면 커밋 이후에 제거 (롤백되면 토큰을 그대로 둠)
+     *
+     * @param userId
+     */
+    public void remove(int userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    removeNow(userId);
+                }
+            });
+            return;
+        }
+
+        removeNow(userId);
+    }
+
+    private void removeNow(int userId) {
+        if (tokens.remove(userId) != null) {
+            dirty.set(true);
+        }
+    }
+
+    /**
+     * 제시된 토큰이 현재 저장된 토큰일 때만 제거하는 메서드 (로그아웃)
+     * - 이미 다른 토큰으로 회전됐으면 그 토큰은 건드리지 않음
+     *
+     * @param userId
+     * @param presented
+     * @return 제거 여부
+     */
+    public boolean remove(int userId, String presented) {
+        StoredToken current = tokens.get(userId);
+
+        if (current == null || !current.matches(hash(presented)) || !tokens.remove(userId, current)) {
+            return false;
+        }
+
+        dirty.set(true);
+        return true;
+    }
+
+    /**
+     * timer wheel을 현재 시각까지 돌리면서 만료된 토큰 제거하는 작업
+     * - 이미 회전/삭제돼서 저장된 토큰과 만료 시각이 다른 항목은 버림 (다시 넣으면 바퀴마다 쌓임)
+     * - 남은 항목 중 아직 만료 전인 것(다음 바퀴 대상)은 다시 넣어둠
+     */
+    @Scheduled(fixedDelayString = "${jwt.refresh-token-store.tick-ms}")
+    public void expire() {
+        long now = System.currentTimeMillis();
+        long currentTick = now / tickMs;
+        int removed = 0;
+
+        for (long tick = lastTick; tick <= currentTick; tick++) {
+            ConcurrentLinkedQueue<WheelItem> slot = wheel.get((int) (tick % wheel.size()));
+            List<WheelItem> pending = new ArrayList<>();
+
+            WheelItem item;
+            while ((item = slot.poll()) != null) {
+                StoredToken stored = tokens.get(item.userId());
+                if (stored == null || stored.expiresAtMillis() != item.expiresAtMillis()) {
+                    continue;
+                }
+
+                if (item.expiresAtMillis() > now) {
+                    pending.add(item);
+                    continue;
+                }
+
+                if (tokens.remove(item.userId(), stored)) {
+                    removed++;
+                }
+            }
+
+            slot.addAll(pending);
+
+            if (tick - lastTick >= wheel.size()) {
+                break;
+            }
+        }
+
+        lastTick = currentTick;
+
+        if (removed > 0) {
+            dirty.set(true);
+            log.debug("[RefreshTokenStore] 만료 토큰 제거 - {}개", removed);
+        }
+    }
+
+    /**
+     * 변경이 있으면 스냅샷 저장하는 작업
+     */
+    @Scheduled(fixedDelayString = "${jwt.refresh-token-store.snapshot-interval-ms}")
+    public void snapshot() {
+        if (dirty.getAndSet(false)) {
+            writeSnapshot();
+        }
+    }
+
+    @Override
+    public String getFlusherName() {
+        return "refresh-token";
+    }
+
+    @Override
+    public void flushAll() {
+        dirty.set(false);
+        writeSnapshot();
+    }
+
+    /**
+     * 스냅샷 파일 쓰는 메서드
+     * - 임시 파일에 다 쓴 뒤 원자적으로 교체해서 중간에 죽어도 이전 스냅샷은 온전히 남음
+     * - 형식: magic(int), 항목 수(int), [userId(int), expiresAt(long), hash(32 bytes)] 반복
+     */
+    private void writeSnapshot() {
+        Path path = Path.of(property.getRefreshTokenStore().getSnapshotPath());
+        long now = System.currentTimeMillis();
+        List<Map.Entry<Integer, StoredToken>> live = tokens.entrySet()
+                .stream()
+                .filter(entry -> !entry.getValue().isExpired(now))
+                .toList();
+
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(SNAPSHOT_MAGIC);
+                out.writeInt(live.size());
+
+                for (Map.Entry<Integer, StoredToken> entry : live) {
+                    out.writeInt(entry.getKey());
+                    out.writeLong(entry.getValue().expiresAtMillis());
+                    out.write(entry.getValue().hash());
+                }
+            }
+
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            dirty.set(true);
+            log.warn("[RefreshTokenStore] 스냅샷 저장 실패 - {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 시작 시 스냅샷 읽어서 만료되지 않은 토큰만 복구하는 메서드
+     * - 파일이 없거나 형식이 다르면 빈 상태로 시작
+     */
+    private void loadSnapshot() {
+        Path path = Path.of(property.getRefreshTokenStore().getSnapshotPath());
+
+        if (!Files.exists(path)) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        int loaded = 0;
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != SNAPSHOT_MAGIC) {
+                log.warn("[RefreshTokenStore] 스냅샷 형식이 달라 무시 - {}", path);
+                return;
+            }
+
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                int userId = in.readInt();
+                long expiresAt = in.readLong();
+                byte[] hash = in.readNBytes(HASH_BYTES);
+
+                if (expiresAt <= now) {
+                    continue;
+                }
+
+                tokens.put(userId, new StoredToken(hash, expiresAt));
+                schedule(userId, expiresAt);
+                loaded++;
+            }
+        } catch (IOException e) {
+            log.warn("[RefreshTokenStore] 스냅샷 읽기 실패 - {}", e.getMessage());
+        }
+
+        log.info("[RefreshTokenStore] 스냅샷 복구 완료 - {}개", loaded);
+    }
+
+    private void schedule(int userId, long expiresAtMillis) {
+        long tick = expiresAtMillis / tickMs;
+        wheel.get((int) (tick % wheel.size())).add(new WheelItem(userId, expiresAtMillis));
+    }
+
+    private byte[] hash(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record StoredToken(byte[] hash, long expiresAtMillis) {
+
+        private boolean matches(byte[] otherHash) {
+            return MessageDigest.isEqual(hash, otherHash);
+        }
+
+        private boolean isExpired(long now) {
+            return expiresAtMillis <= now;
+        }
+
+    }
+
+    private record WheelItem(int userId, long expiresAtMillis) {}
+
+}
@@ -3,10 +3,13 @@ package boot.kakaotech.communitybe.comment.repository;
 import boot.kakaotech.communitybe.comment.dto.CommentDto;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CustomCommentRepository {
 
     List<CommentDto> getComments(Integer postId, Integer parentId, Integer lastCommentId, int size);
 
+    List<CommentDto> getChildPreviews(Integer postId, Collection<Integer> parentIds, int sizePerParent);
+
 }
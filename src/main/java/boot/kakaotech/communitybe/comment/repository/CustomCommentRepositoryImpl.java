@@ -4,10 +4,16 @@ import boot.kakaotech.communitybe.comment.dto.CommentDto;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import static boot.kakaotech.communitybe.comment.entity.QComment.comment;
@@ -18,8 +24,32 @@ import static boot.kakaotech.communitybe.user.entity.QUser.user;
 @RequiredArgsConstructor
 public class CustomCommentRepositoryImpl implements CustomCommentRepository {
 
+    /**
+     * 부모 댓글별 자식 댓글 앞부분을 한 번에 가져오는 쿼리
+     * - JPQL/QueryDSL은 윈도우 함수를 지원하지 않아 native query 사용
+     */
+    private static final String CHILD_PREVIEW_SQL = """
+            SELECT t.id, t.user_id, t.nickname, t.profile_image_key, t.content,
+                   t.parent_comment_id, t.depth, t.created_at
+            FROM (
+                SELECT c.id, u.id AS user_id, u.nickname, u.profile_image_key, c.content,
+                       c.parent_comment_id, c.depth, c.created_at,
+                       ROW_NUMBER() OVER (PARTITION BY c.parent_comment_id ORDER BY c.id) AS rn
+                FROM comment c
+                JOIN `user` u ON u.id = c.user_id
+                WHERE c.post_id = :postId
+                  AND c.parent_comment_id IN (:parentIds)
+                  AND c.deleted_at IS NULL
+            ) t
+            WHERE t.rn <= :limit
+            ORDER BY t.parent_comment_id, t.id
+            """;
+
     private final JPAQueryFactory jpaQueryFactory;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     @Override
     public List<CommentDto> getComments(Integer postId, Integer parentId, Integer lastCommentId, int size) {
         BooleanExpression parentFilter;
@@ -63,4 +93,63 @@ public class CustomCommentRepositoryImpl implements CustomCommentRepository {
                 .fetch();
     }
 
+    /**
+     * 여러 부모 댓글의 자식 댓글을 부모마다 최대 sizePerParent + 1개씩 한 번에 조회하는 메서드
+     * - +1개는 부모별 hasMoreChildren 판단용
+     * - 결과는 (parentId, id) 오름차순
+     *
+     * @param postId
+     * @param parentIds
+     * @param sizePerParent
+     * @return
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<CommentDto> getChildPreviews(Integer postId, Collection<Integer> parentIds, int sizePerParent) {
+        if (parentIds == null || parentIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Object[]> rows = entityManager.createNativeQuery(CHILD_PREVIEW_SQL)
+                .setParameter("postId", postId)
+                .setParameter("parentIds", parentIds)
+                .setParameter("limit", sizePerParent + 1)
+                .getResultList();
+
+        List<CommentDto> children = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            children.add(CommentDto.builder()
+                    .id(toInteger(row[0]))
+                    .userId(toInteger(row[1]))
+                    .name((String) row[2])
+                    .profileImageUrl((String) row[3])
+                    .comment((String) row[4])
+                    .parentId(toInteger(row[5]))
+                    .depth(toInteger(row[6]))
+                    .createdAt(toLocalDateTime(row[7]))
+                    .build());
+        }
+
+        return children;
+    }
+
+    private Integer toInteger(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Boolean bool) {
+            return bool ? 1 : 0; // TINYINT가 드라이버 설정에 따라 Boolean으로 올 수 있음
+        }
+
+        return ((Number) value).intValue();
+    }
+
+    private LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+
+        return (LocalDateTime) value;
+    }
+
 }
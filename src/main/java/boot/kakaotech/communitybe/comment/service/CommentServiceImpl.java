@@ -5,12 +5,14 @@ import boot.kakaotech.communitybe.comment.dto.CommentDto;
 import boot.kakaotech.communitybe.comment.dto.CreateCommentDto;
 import boot.kakaotech.communitybe.comment.entity.Comment;
 import boot.kakaotech.communitybe.comment.repository.CommentRepository;
+import boot.kakaotech.communitybe.common.persistence.RequestEntityCache;
 import boot.kakaotech.communitybe.common.properties.S3Property;
 import boot.kakaotech.communitybe.common.s3.service.S3Service;
 import boot.kakaotech.communitybe.common.scroll.dto.CursorPage;
 import boot.kakaotech.communitybe.common.util.ThreadLocalContext;
 import boot.kakaotech.communitybe.common.validation.Validator;
 import boot.kakaotech.communitybe.post.entity.Post;
+import boot.kakaotech.communitybe.post.repository.PostRepository;
 import boot.kakaotech.communitybe.user.entity.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,6 +21,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -26,7 +29,9 @@ import java.util.List;
 public class CommentServiceImpl implements CommentService {
 
     private final CommentRepository commentRepository;
+    private final PostRepository postRepository;
     private final Validator validator;
+    private final RequestEntityCache entityCache;
 
     private final ThreadLocalContext context;
     private final S3Service s3Service;
@@ -55,19 +60,21 @@ public class CommentServiceImpl implements CommentService {
 
     /**
      * 댓글 생성 API
+     * - 댓글 저장과 게시글 댓글 수 증가를 한 트랜잭션에서 처리
      *
      * @param postId
      * @param dto
      * @return
      */
     @Override
+    @Transactional
     public Integer addComment(Integer postId, CreateCommentDto dto) {
         log.info("[CommentService] 댓글 생성 시작, postId: {}", postId);
 
         Post post = validator.validatePostByIdAndReturn(postId);
         Integer parentId = dto.getParentId();
-        Comment parent = commentRepository.findById(parentId).orElse(null);
-        User user = context.getCurrentUser();
+        Comment parent = entityCache.find(Comment.class, parentId); // parentId가 없으면 댓글
+        User user = entityCache.getReference(User.class, context.getCurrentUserId());
 
         Comment comment = Comment.builder()
                 .parentComment(parent)
@@ -79,6 +86,7 @@ public class CommentServiceImpl implements CommentService {
                 .build();
 
         commentRepository.save(comment);
+        postRepository.updateCommentCount(postId, 1);
 
         return comment.getId();
     }
@@ -98,6 +106,12 @@ public class CommentServiceImpl implements CommentService {
         Comment comment = changeComment(commentId, user, dto);
     }
 
+    /**
+     * 댓글 삭제하는 메서드
+     * - 이미 삭제된 댓글이면 게시글 댓글 수를 다시 줄이지 않음
+     *
+     * @param commentId
+     */
     @Override
     @Transactional
     public void softDeleteComment(Integer commentId) {
@@ -106,7 +120,12 @@ public class CommentServiceImpl implements CommentService {
         User user = context.getCurrentUser();
         Comment comment = validator.validateCommentByIdAndReturn(commentId, user);
 
+        if (comment.getDeletedAt() != null) {
+            return;
+        }
+
         comment.setDeletedAt(LocalDateTime.now());
+        postRepository.updateCommentCount(comment.getPost().getId(), -1);
     }
 
     /**
@@ -118,7 +137,7 @@ public class CommentServiceImpl implements CommentService {
      * @return
      */
     private Comment changeComment(Integer commentId, User user, ValueDto dto) {
-        Comment comment = commentRepository.findById(commentId).orElse(null);
+        Comment comment = entityCache.find(Comment.class, commentId);
         validator.validateCommentAndAuthor(comment, user);
 
         comment.setContent(dto.getValue());
@@ -157,6 +176,10 @@ public class CommentServiceImpl implements CommentService {
      * @param comments
      */
     private void setImagesIntoList(List<CommentDto> comments) {
+        Map<String, String> presignedUrls = s3Service.presignAll(
+                comments.stream().map(CommentDto::getProfileImageUrl).toList()
+        );
+
         comments.forEach(comment -> {
             String key = comment.getProfileImageUrl();
 
@@ -164,9 +187,7 @@ public class CommentServiceImpl implements CommentService {
                 return;
             }
 
-            comment.setProfileImageUrl(
-                    s3Service.createGETPresignedUrl(s3Property.getS3().getBucket(), key)
-            );
+            comment.setProfileImageUrl(presignedUrls.get(key));
         });
     }
 
@@ -0,0 +1,144 @@
+package boot.kakaotech.communitybe.common.concurrent;
+
+import boot.kakaotech.communitybe.common.exception.BusinessException;
+import boot.kakaotech.communitybe.common.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 요청 하나 안의 독립적인 작업들을 virtual thread로 동시에 실행하는 스코프
+ * - try-with-resources로 사용하고, 블록을 벗어나면 끝나지 않은 작업은 모두 취소 (structured concurrency 방식)
+ * - 모든 작업은 스코프 생성 시점 기준 deadline 안에 끝나야 함
+ * - ThreadLocal은 fork된 스레드로 전달되지 않으므로 필요한 값은 작업에 직접 넘겨야 함
+ * - 동시에 fork되는 작업 수는 ForkBulkhead로 애플리케이션 전체에서 제한
+ * - 허용량이 없어 호출한 스레드에서 바로 실행되는 작업은 도중에 끊을 수 없으므로,
+ *   시작 전과 끝난 뒤에만 deadline을 확인 (작업 하나의 실행 시간은 JDBC query timeout 등 작업 자체의 제한에 맡김)
+ */
+@Slf4j
+public class DeadlineScope implements AutoCloseable {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final CompletionService<Object> completion = new ExecutorCompletionService<>(executor);
+    private static final Duration CANCEL_GRACE = Duration.ofMillis(50);
+
+    private final ForkBulkhead bulkhead;
+    private final long deadlineNanos;
+    private int forkCount;
+
+    public DeadlineScope(Duration timeout, ForkBulkhead bulkhead) {
+        this.bulkhead = bulkhead;
+        this.deadlineNanos = System.nanoTime() + timeout.toNanos();
+    }
+
+    /**
+     * 작업을 새 virtual thread에서 실행하는 메서드
+     * - bulkhead 허용량이 남아 있지 않으면 호출한 스레드에서 바로 실행하고 결과를 그대로 돌려줌
+     * - 바로 실행하는 경우 시작 전이나 끝난 뒤 deadline을 넘겼으면 REQUEST_TIMEOUT
+     * - 반환된 Supplier는 join() 성공 이후에만 호출해야 함
+     *
+     * @param task
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Supplier<T> fork(Callable<T> task) {
+        if (!bulkhead.tryAcquire()) {
+            checkDeadline();
+            T result = runInline(task);
+            checkDeadline();
+            return () -> result;
+        }
+
+        Future<Object> future;
+        try {
+            future = completion.submit(() -> {
+                try {
+                    return task.call();
+                } finally {
+                    bulkhead.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            bulkhead.release();
+            throw e;
+        }
+        forkCount++;
+
+        return () -> (T) future.resultNow();
+    }
+
+    /**
+     * fork한 작업이 모두 끝날 때까지 deadline까지만 기다리는 메서드
+     * - 끝난 순서대로 확인하므로 하나라도 실패하면 바로 나머지를 취소하고 예외 전달
+     * - deadline을 넘기면 REQUEST_TIMEOUT
+     */
+    public void join() {
+        try {
+            for (int done = 0; done < forkCount; done++) {
+                long remaining = deadlineNanos - System.nanoTime();
+                Future<Object> completed = completion.poll(remaining, TimeUnit.NANOSECONDS);
+
+                if (completed == null) {
+                    throw new BusinessException(ErrorCode.REQUEST_TIMEOUT);
+                }
+
+                completed.get();
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.REQUEST_TIMEOUT);
+        }
+    }
+
+    /**
+     * 남은 작업을 취소하고 끝날 때까지 기다리는 메서드
+     * - 원래 deadline까지 남은 시간에 짧은 유예(CANCEL_GRACE)만 더해서 기다리므로,
+     *   join()이 deadline으로 끝난 경우에도 요청 지연은 deadline + 유예를 넘지 않음
+     * - 인터럽트에 반응하지 않는 JDBC 호출처럼 그래도 남은 작업은 bulkhead 자리를 계속 차지한 채 끝나면 스스로 반납
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+
+        long waitNanos = Math.max(deadlineNanos - System.nanoTime(), 0) + CANCEL_GRACE.toNanos();
+        try {
+            if (!executor.awaitTermination(waitNanos, TimeUnit.NANOSECONDS)) {
+                log.warn("[DeadlineScope] 취소된 작업이 deadline 이후 {}ms 안에 끝나지 않음", CANCEL_GRACE.toMillis());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void checkDeadline() {
+        if (System.nanoTime() - deadlineNanos >= 0) {
+            throw new BusinessException(ErrorCode.REQUEST_TIMEOUT);
+        }
+    }
+
+    private static <T> T runInline(Callable<T> task) {
+        try {
+            return task.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
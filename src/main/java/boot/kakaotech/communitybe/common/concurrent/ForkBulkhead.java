@@ -0,0 +1,38 @@
+package boot.kakaotech.communitybe.common.concurrent;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * DeadlineScope에서 fork되는 작업 수를 애플리케이션 전체에서 제한하는 bulkhead
+ * - fork된 작업은 각자 커넥션 풀에서 커넥션을 따로 빌리므로, 제한이 없으면 요청 수 x fork 수만큼 커넥션을 기다리다
+ *   요청 스레드가 잡고 있는 커넥션과 맞물려 풀이 고갈될 수 있음
+ * - 허용량을 넘는 fork는 새 스레드를 만들지 않고 호출한 스레드에서 바로 실행 (순차 실행으로 degrade)
+ * - 허용량은 작업이 실제로 끝날 때 반납하므로, 취소됐지만 아직 JDBC 호출 중인 작업도 계속 자리를 차지
+ */
+public class ForkBulkhead {
+
+    private final Semaphore permits;
+    private final int capacity;
+
+    public ForkBulkhead(int capacity) {
+        this.capacity = capacity;
+        this.permits = new Semaphore(capacity);
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getActive() {
+        return capacity - permits.availablePermits();
+    }
+
+    boolean tryAcquire() {
+        return permits.tryAcquire();
+    }
+
+    void release() {
+        permits.release();
+    }
+
+}
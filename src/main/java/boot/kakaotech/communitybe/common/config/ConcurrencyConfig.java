@@ -0,0 +1,57 @@
+package boot.kakaotech.communitybe.common.config;
+
+import boot.kakaotech.communitybe.common.concurrent.ForkBulkhead;
+import boot.kakaotech.communitybe.common.properties.PostProperty;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+@Configuration
+@Slf4j
+public class ConcurrencyConfig {
+
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    /**
+     * 게시글 상세 병렬 조립용 ForkBulkhead 생성
+     * - post.detail.max-concurrent-forks가 0이면 커넥션 풀 최대 크기의 절반
+     *   (나머지 절반은 요청 스레드가 직접 쓰는 커넥션 몫)
+     *
+     * @param postProperty
+     * @param dataSource
+     * @param meterRegistry
+     * @return
+     */
+    @Bean
+    public ForkBulkhead detailForkBulkhead(PostProperty postProperty, DataSource dataSource, MeterRegistry meterRegistry) {
+        int configured = postProperty.getDetail().getMaxConcurrentForks();
+        int capacity = configured > 0 ? configured : Math.max(1, poolSize(dataSource) / 2);
+
+        log.info("[ConcurrencyConfig] 게시글 상세 동시 fork 허용량 - {}", capacity);
+
+        ForkBulkhead bulkhead = new ForkBulkhead(capacity);
+        Gauge.builder("post.detail.forks.active", bulkhead, ForkBulkhead::getActive)
+                .register(meterRegistry);
+
+        return bulkhead;
+    }
+
+    private static int poolSize(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException e) {
+            log.warn("[ConcurrencyConfig] 커넥션 풀 크기 확인 실패, 기본값 사용", e);
+        }
+
+        return DEFAULT_POOL_SIZE;
+    }
+
+}
@@ -1,15 +1,43 @@
 package boot.kakaotech.communitybe.common.config;
 
+import boot.kakaotech.communitybe.common.encoder.HashingExecutor;
 import boot.kakaotech.communitybe.common.encoder.PasswordEncoder;
+import boot.kakaotech.communitybe.common.properties.PasswordProperty;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
+@Slf4j
 public class EncoderConfig {
 
+    @Bean(destroyMethod = "shutdown")
+    public HashingExecutor hashingExecutor(PasswordProperty property, MeterRegistry meterRegistry) {
+        PasswordProperty.Hashing hashing = property.getHashing();
+        int threads = hashing.getThreads() > 0 ? hashing.getThreads() : Runtime.getRuntime().availableProcessors();
+
+        return new HashingExecutor(threads, hashing.getQueueCapacity(), hashing.getWaitTimeout(), meterRegistry);
+    }
+
+    /**
+     * PasswordEncoder 생성
+     * - calibrate가 켜져 있으면 시작 시 현재 CPU에서 target-latency만큼 걸리는 반복 횟수를 측정 (floor-iterations 이상)
+     *
+     * @param hashingExecutor
+     * @param property
+     * @return
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new PasswordEncoder();
+    public PasswordEncoder passwordEncoder(HashingExecutor hashingExecutor, PasswordProperty property) {
+        PasswordProperty.Pbkdf2 pbkdf2 = property.getPbkdf2();
+        int iterations = pbkdf2.isCalibrate()
+                ? PasswordEncoder.calibrateIterations(pbkdf2.getTargetLatency(), pbkdf2.getFloorIterations())
+                : pbkdf2.getFloorIterations();
+
+        log.info("[EncoderConfig] PBKDF2 반복 횟수 - {} (calibrate: {})", iterations, pbkdf2.isCalibrate());
+
+        return new PasswordEncoder(hashingExecutor, iterations);
     }
 
 }
@@ -1,18 +1,30 @@
 package boot.kakaotech.communitybe.common.config;
 
+import boot.kakaotech.communitybe.common.properties.AvailabilityFilterProperty;
 import boot.kakaotech.communitybe.common.properties.CorsProperty;
 import boot.kakaotech.communitybe.common.properties.JwtProperty;
-import boot.kakaotech.communitybe.common.properties.PrefixProperty;
+import boot.kakaotech.communitybe.common.properties.LikeProperty;
+import boot.kakaotech.communitybe.common.properties.PasswordProperty;
+import boot.kakaotech.communitybe.common.properties.PostProperty;
+import boot.kakaotech.communitybe.common.properties.RateLimitProperty;
 import boot.kakaotech.communitybe.common.properties.S3Property;
+import boot.kakaotech.communitybe.common.properties.ShutdownProperty;
+import boot.kakaotech.communitybe.common.properties.ViewCountProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 @EnableConfigurationProperties(
         { JwtProperty.class,
-        PrefixProperty.class,
         S3Property.class,
-        CorsProperty.class }
+        CorsProperty.class,
+        PostProperty.class,
+        ViewCountProperty.class,
+        ShutdownProperty.class,
+        PasswordProperty.class,
+        RateLimitProperty.class,
+        LikeProperty.class,
+        AvailabilityFilterProperty.class }
 )
 public class PropertyConfig {
 }
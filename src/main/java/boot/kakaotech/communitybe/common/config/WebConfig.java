@@ -1,5 +1,6 @@
 package boot.kakaotech.communitybe.common.config;
 
+import boot.kakaotech.communitybe.auth.filter.AuthRateLimitFilter;
 import boot.kakaotech.communitybe.auth.filter.JwtVerificationFilter;
 import boot.kakaotech.communitybe.common.properties.CorsProperty;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +16,7 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 public class WebConfig implements WebMvcConfigurer {
 
     private final JwtVerificationFilter jwtVerificationFilter;
+    private final AuthRateLimitFilter authRateLimitFilter;
 
     private final CorsProperty corsProperty;
 
@@ -28,6 +30,16 @@ public class WebConfig implements WebMvcConfigurer {
         return registrationBean;
     }
 
+    @Bean
+    public FilterRegistrationBean<OncePerRequestFilter> authRateLimitFilterRegistrationBean() {
+        FilterRegistrationBean<OncePerRequestFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(authRateLimitFilter);
+        registrationBean.addUrlPatterns("/api/auth/login", "/api/auth/signup");
+        registrationBean.setOrder(0);
+
+        return registrationBean;
+    }
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**")
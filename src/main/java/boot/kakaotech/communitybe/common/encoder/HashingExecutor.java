@@ -0,0 +1,105 @@
+package boot.kakaotech.communitybe.common.encoder;
+
+import boot.kakaotech.communitybe.common.exception.BusinessException;
+import boot.kakaotech.communitybe.common.exception.ErrorCode;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해싱 전용 스레드풀
+ * - PBKDF2는 CPU를 오래 점유하므로 요청 스레드가 아닌 고정 크기 풀에서 실행해서 로그인 폭주가 다른 API를 굶기지 않게 함
+ * - 대기열이 가득 차거나 wait-timeout 안에 끝나지 않으면 기다리지 않고 SERVER_BUSY(503)
+ * - 시간 초과된 작업은 인터럽트로 취소하고(PasswordEncoder의 PBKDF2가 반복 중에 인터럽트를 확인해서 중단),
+ *   아직 대기열에 있던 작업은 바로 비워서 포기한 요청이 스레드와 대기열 자리를 계속 차지하지 않게 함
+ * - 해싱 소요 시간(password.hash.duration)과 대기열 길이(password.hash.queue.depth) 메트릭 제공
+ */
+@Slf4j
+public class HashingExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final Duration waitTimeout;
+    private final Timer hashTimer;
+
+    public HashingExecutor(int threads, int queueCapacity, Duration waitTimeout, MeterRegistry meterRegistry) {
+        AtomicInteger threadNumber = new AtomicInteger();
+
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.waitTimeout = waitTimeout;
+        this.hashTimer = Timer.builder("password.hash.duration").register(meterRegistry);
+
+        Gauge.builder("password.hash.queue.depth", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 해싱 작업을 풀에서 실행하고 결과를 기다리는 메서드
+     * 1. 대기열이 가득 차 있으면 바로 SERVER_BUSY
+     * 2. wait-timeout 안에 끝나지 않으면 작업 취소, 대기열에서 제거 후 SERVER_BUSY
+     *
+     * @param task
+     * @return
+     */
+    public <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> hashTimer.recordCallable(task));
+        } catch (RejectedExecutionException e) {
+            log.warn("[HashingExecutor] 해싱 대기열 초과 - queue: {}", executor.getQueue().size());
+            throw new BusinessException(ErrorCode.SERVER_BUSY);
+        }
+
+        try {
+            return future.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            cancel(future);
+            log.warn("[HashingExecutor] 해싱 시간 초과 - timeout: {}ms", waitTimeout.toMillis());
+            throw new BusinessException(ErrorCode.SERVER_BUSY);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            cancel(future);
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.SERVER_BUSY);
+        }
+    }
+
+    private void cancel(Future<?> future) {
+        future.cancel(true);
+        executor.purge();
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+}
@@ -1,26 +1,77 @@
 package boot.kakaotech.communitybe.common.encoder;
 
-import org.springframework.stereotype.Component;
-
-import javax.crypto.SecretKeyFactory;
-import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
 import java.security.SecureRandom;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.concurrent.CancellationException;
 
-@Component
 public class PasswordEncoder {
 
-    private final String ALGORITHM = "PBKDF2WithHmacSHA256"; // 해싱 알고리즘
-    private final int KEY_LENGTH = 256; // 출력 해시 길이(bit단위)
-    private final int SALT_LENGTH = 32;
-    private final int ITERATION_COUNT = 600_000; //
+    private static final String PRF_ALGORITHM = "HmacSHA256"; // PBKDF2 내부 PRF
+    private static final int INTERRUPT_CHECK_INTERVAL = 4096; // 이 반복 횟수마다 취소 여부 확인
+    private static final int KEY_LENGTH = 256; // 출력 해시 길이(bit단위)
+    private static final int SALT_LENGTH = 32;
     private final int MIN_PASSWORD_LENGTH = 8;
 
+    private static final String FORMAT_PREFIX = "$pbkdf2-sha256$"; // $pbkdf2-sha256$i=반복횟수$salt$hash
+    private static final int LEGACY_ITERATION_COUNT = 600_000; // 버전 없는 기존 salt||hash 형식의 반복 횟수
+
+    private static final SecureRandom RANDOM = new SecureRandom(); // thread-safe라 공유
+    private static final ThreadLocal<Mac> PRF = ThreadLocal.withInitial(() -> {
+        try {
+            return Mac.getInstance(PRF_ALGORITHM);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final HashingExecutor hashingExecutor;
+    private final int iterationCount;
+
+    public PasswordEncoder(HashingExecutor hashingExecutor, int iterationCount) {
+        this.hashingExecutor = hashingExecutor;
+        this.iterationCount = iterationCount;
+    }
+
+    /**
+     * 현재 CPU에서 목표 시간만큼 걸리는 반복 횟수 구하는 메서드
+     * 1. 적은 반복 횟수로 몇 번 해싱해서 가장 빠른 시간 측정 (JIT 워밍업 포함)
+     * 2. 목표 시간에 비례하도록 반복 횟수 환산
+     * 3. 최소값(floor) 아래로는 내리지 않고, 1만 단위로 올림
+     *
+     * @param targetLatency
+     * @param floorIterations
+     * @return
+     */
+    public static int calibrateIterations(Duration targetLatency, int floorIterations) {
+        int probeIterations = 50_000;
+        byte[] salt = new byte[SALT_LENGTH];
+        RANDOM.nextBytes(salt);
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            long start = System.nanoTime();
+            pbkdf2("calibration-probe", salt, probeIterations);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+
+        double perIteration = (double) best / probeIterations;
+        long iterations = (long) (targetLatency.toNanos() / perIteration);
+        iterations = Math.max(iterations, floorIterations);
+        iterations = (iterations + 9_999) / 10_000 * 10_000;
+
+        return (int) Math.min(iterations, Integer.MAX_VALUE);
+    }
+
     /**
      * SHA256 알고리즘으로 인코딩하는 메서드
-     * salt 값과 비밀번호로 암호화한 byte[]를 base64로 인코딩하여 반환
+     * salt 값과 비밀번호로 암호화한 뒤 알고리즘, 반복 횟수와 함께 $pbkdf2-sha256$i=N$salt$hash 형식으로 반환
      *
      * @param rawPassword
      * @return
@@ -31,17 +82,16 @@ public class PasswordEncoder {
         }
 
         var salt = createSalt();
-        var hash = hashPassword(rawPassword, salt);
-        byte[] saltedHash = new byte[salt.length + hash.length];
-        System.arraycopy(salt, 0, saltedHash, 0, salt.length);
-        System.arraycopy(hash, 0, saltedHash, salt.length, hash.length);
+        var hash = hashPassword(rawPassword, salt, iterationCount);
+        Base64.Encoder encoder = Base64.getEncoder();
 
-        return Base64.getEncoder().encodeToString(saltedHash);
+        return FORMAT_PREFIX + "i=" + iterationCount + "$" + encoder.encodeToString(salt) + "$" + encoder.encodeToString(hash);
     }
 
     /**
      * 비밀번호 인코딩 후 인코딩된 비밀번호와 맞는지 확인하는 메서드
-     * 기존의 인코딩 된 비밀번호를 base64 디코딩 후 rawPassword를 새로 인코딩 해
+     * 저장된 비밀번호의 salt와 반복 횟수로 rawPassword를 새로 인코딩 해서 비교
+     * - 버전 없는 기존 형식(base64(salt||hash))도 600,000회로 검증
      *
      * @param rawPassword
      * @param encodedPassword
@@ -52,20 +102,59 @@ public class PasswordEncoder {
             throw new IllegalArgumentException("rawPassword length should be at least " + MIN_PASSWORD_LENGTH);
         }
 
-        byte[] hash;
+        EncodedPassword stored = parse(encodedPassword);
+        var newHash = hashPassword(rawPassword, stored.salt(), stored.iterations());
+
+        return MessageDigest.isEqual(stored.hash(), newHash);
+    }
+
+    /**
+     * 저장된 비밀번호를 현재 설정으로 다시 해싱해야 하는지 확인하는 메서드
+     * 기존 형식이거나 반복 횟수가 현재 설정보다 적으면 true
+     *
+     * @param encodedPassword
+     * @return
+     */
+    public boolean needsRehash(String encodedPassword) {
+        EncodedPassword stored = parse(encodedPassword);
+
+        return stored.legacy() || stored.iterations() < iterationCount;
+    }
+
+    public int getIterationCount() {
+        return iterationCount;
+    }
+
+    /**
+     * 저장된 비밀번호 문자열 파싱하는 메서드
+     *
+     * @param encodedPassword
+     * @return
+     */
+    private EncodedPassword parse(String encodedPassword) {
+        Base64.Decoder decoder = Base64.getDecoder();
+
         try {
-            hash = Base64.getDecoder().decode(encodedPassword);
+            if (encodedPassword.startsWith(FORMAT_PREFIX)) {
+                String[] parts = encodedPassword.substring(FORMAT_PREFIX.length()).split("\\$");
+                if (parts.length != 3 || !parts[0].startsWith("i=")) {
+                    throw new IllegalArgumentException("Invalid encoded password format");
+                }
+
+                int iterations = Integer.parseInt(parts[0].substring(2));
+                return new EncodedPassword(decoder.decode(parts[1]), decoder.decode(parts[2]), iterations, false);
+            }
+
+            byte[] hash = decoder.decode(encodedPassword);
+            var salt = new byte[SALT_LENGTH];
+            var storedHash = new byte[hash.length - SALT_LENGTH];
+            System.arraycopy(hash, 0, salt, 0, SALT_LENGTH); // 기존 salt값 복사
+            System.arraycopy(hash, SALT_LENGTH, storedHash, 0, storedHash.length);
+
+            return new EncodedPassword(salt, storedHash, LEGACY_ITERATION_COUNT, true);
         } catch (IllegalArgumentException e) {
             throw new IllegalArgumentException("Invalid base64 encoded password", e);
         }
-
-        var salt = new byte[SALT_LENGTH];
-        var storedHash = new byte[hash.length - SALT_LENGTH];
-        System.arraycopy(hash, 0, salt, 0, SALT_LENGTH); // 기존 salt값 복사
-        System.arraycopy(hash, SALT_LENGTH, storedHash, 0, storedHash.length);
-        var newHash = hashPassword(rawPassword, salt);
-
-        return Arrays.equals(storedHash, newHash);
     }
 
     /**
@@ -77,8 +166,7 @@ public class PasswordEncoder {
     private byte[] createSalt() {
         byte[] salt = new byte[SALT_LENGTH];
 
-        var random = new SecureRandom();
-        random.nextBytes(salt);
+        RANDOM.nextBytes(salt);
 
         return salt;
     }
@@ -98,26 +186,77 @@ public class PasswordEncoder {
     /**
      * 해시할 비밀번호와 salt를 전달받아 인코딩하는 메서드
      * byte[]가 반환되어 base64로 인코딩하지 않으면 문자열로 변환 시 문제 발생 가능하기 때문에 인코딩 필수
+     * - 해싱은 HashingExecutor 스레드에서 실행
      *
      * @param rawPassword
      * @param salt
+     * @param iterations
      * @return
      */
-    private byte[] hashPassword(String rawPassword, byte[] salt) {
-        var keySpec = new PBEKeySpec(
-                rawPassword.toCharArray(),
-                salt,
-                ITERATION_COUNT,
-                KEY_LENGTH
-        );
+    private byte[] hashPassword(String rawPassword, byte[] salt, int iterations) {
+        return hashingExecutor.execute(() -> pbkdf2(rawPassword, salt, iterations));
+    }
+
+    /**
+     * PBKDF2-HMAC-SHA256 (RFC 8018) 직접 계산하는 메서드
+     * - SecretKeyFactory(SunJCE)는 generateSecret 호출마다 내부에서 Mac.getInstance를 새로 하므로,
+     *   Mac을 해싱 스레드마다 하나씩 두고 key만 바꿔서 재사용
+     * - 블록마다 U_1 = HMAC(P, S || INT(i)), U_j = HMAC(P, U_{j-1}), T_i = U_1 ^ ... ^ U_c
+     * - 반복 중간중간 인터럽트를 확인해서 HashingExecutor가 시간 초과로 취소하면 바로 중단
+     *   (SecretKeyFactory는 인터럽트를 보지 않아 취소돼도 끝까지 CPU를 씀)
+     * - 비밀번호는 SunJCE와 같이 UTF-8로 변환, 결과는 SecretKeyFactory와 같음
+     *
+     * @param rawPassword
+     * @param salt
+     * @param iterations
+     * @return
+     */
+    static byte[] pbkdf2(String rawPassword, byte[] salt, int iterations) {
+        byte[] password = rawPassword.getBytes(StandardCharsets.UTF_8);
+        Mac mac = PRF.get();
 
         try {
-            var secretKeyFactory = SecretKeyFactory.getInstance(ALGORITHM);
+            // HMAC은 빈 key를 0으로 채운 key와 똑같이 취급하지만 SecretKeySpec은 빈 key를 받지 않음
+            mac.init(new SecretKeySpec(password.length == 0 ? new byte[1] : password, PRF_ALGORITHM));
+
+            int blockLength = mac.getMacLength();
+            int keyLength = KEY_LENGTH / 8;
+            byte[] derived = new byte[keyLength];
+            byte[] u = new byte[blockLength];
+            byte[] block = new byte[blockLength];
+
+            for (int blockIndex = 1, offset = 0; offset < keyLength; blockIndex++, offset += blockLength) {
+                mac.update(salt);
+                mac.update(new byte[]{
+                        (byte) (blockIndex >>> 24), (byte) (blockIndex >>> 16), (byte) (blockIndex >>> 8), (byte) blockIndex
+                });
+                mac.doFinal(u, 0);
+                System.arraycopy(u, 0, block, 0, blockLength);
+
+                for (int i = 1; i < iterations; i++) {
+                    if (i % INTERRUPT_CHECK_INTERVAL == 0 && Thread.currentThread().isInterrupted()) {
+                        throw new CancellationException("password hashing cancelled");
+                    }
 
-            return secretKeyFactory.generateSecret(keySpec).getEncoded();
+                    mac.update(u);
+                    mac.doFinal(u, 0);
+                    for (int k = 0; k < blockLength; k++) {
+                        block[k] ^= u[k];
+                    }
+                }
+
+                System.arraycopy(block, 0, derived, offset, Math.min(blockLength, keyLength - offset));
+            }
+
+            return derived;
         } catch (GeneralSecurityException e) {
             throw new IllegalStateException(e);
+        } finally {
+            Arrays.fill(password, (byte) 0);
+            mac.reset();
         }
     }
 
+    private record EncodedPassword(byte[] salt, byte[] hash, int iterations, boolean legacy) {}
+
 }
@@ -20,6 +20,11 @@ public enum ErrorCode {
     INVALID_FORMAT(HttpStatus.BAD_REQUEST, "형식에 맞지 않은 요청입니다."), // 요청 DTO 형식이 맞지 않을 때
     ILLEGAL_ARGUMENT(HttpStatus.BAD_REQUEST, "데이터가 존재하지 않습니다."),
     PASSWORD_NOT_MATCHED(HttpStatus.BAD_REQUEST, "비밀번호가 일치하지 않습니다."),
+
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."), // 인증 API 요청 제한을 넘었을 때
+
+    REQUEST_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE, "요청 처리 시간이 초과되었습니다."), // 요청 내 병렬 작업이 deadline을 넘겼을 때
+    SERVER_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 잠시 후 다시 시도해주세요."), // 비밀번호 해싱 대기열이 가득 찼을 때
     ;
 
     private final HttpStatus status;
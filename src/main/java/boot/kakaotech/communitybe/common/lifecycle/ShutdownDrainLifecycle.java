@@ -0,0 +1,107 @@
+package boot.kakaotech.communitybe.common.lifecycle;
+
+import boot.kakaotech.communitybe.common.properties.ShutdownProperty;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 종료 시 write-behind 상태를 마지막으로 DB에 반영하는 lifecycle
+ * - 웹 서버 graceful shutdown(새 요청 거부 + 처리 중 요청 완료)보다 phase가 낮아서 그 이후에 stop
+ * - lifecycle stop은 빈 소멸(datasource close)보다 먼저 실행되므로 DB를 쓸 수 있음
+ * - 전체 flush는 shutdown.drain-timeout 안에서만 기다리고, 넘기면 남은 flusher는 포기
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ShutdownDrainLifecycle implements SmartLifecycle {
+
+    private final List<WriteBehindFlusher> flushers;
+
+    private final ShutdownProperty property;
+
+    private volatile boolean running;
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    /**
+     * 등록된 flusher를 순서대로 실행하는 메서드
+     * 1. 남은 시간 안에서 flusher 하나씩 별도 스레드로 실행하고 완료 대기
+     * 2. 시간을 넘기거나 실패하면 경고 로그 남기고 다음 flusher로 진행
+     * 3. flusher별, 전체 소요 시간 로그
+     */
+    @Override
+    public void stop() {
+        long start = System.nanoTime();
+        long deadline = start + property.getDrainTimeout().toNanos();
+
+        log.info("[ShutdownDrainLifecycle] 종료 전 flush 시작 - flushers: {}", flushers.size());
+
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            for (WriteBehindFlusher flusher : flushers) {
+                long flusherStart = System.nanoTime();
+                long remaining = deadline - flusherStart;
+
+                if (remaining <= 0) {
+                    log.warn("[ShutdownDrainLifecycle] 시간 초과로 flush 생략 - {}", flusher.getFlusherName());
+                    continue;
+                }
+
+                Future<?> future = executor.submit(flusher::flushAll);
+                try {
+                    future.get(remaining, TimeUnit.NANOSECONDS);
+                    log.info("[ShutdownDrainLifecycle] flush 완료 - {}, {}ms",
+                            flusher.getFlusherName(), elapsedMillis(flusherStart));
+                } catch (TimeoutException e) {
+                    log.warn("[ShutdownDrainLifecycle] flush 시간 초과 - {}, {}ms",
+                            flusher.getFlusherName(), elapsedMillis(flusherStart));
+                } catch (ExecutionException e) {
+                    log.warn("[ShutdownDrainLifecycle] flush 실패 - {} - {}",
+                            flusher.getFlusherName(), e.getCause().getMessage());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    log.warn("[ShutdownDrainLifecycle] flush 중단 - {}", flusher.getFlusherName());
+                    break;
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+            running = false;
+        }
+
+        log.info("[ShutdownDrainLifecycle] 종료 전 flush 끝 - {}ms", elapsedMillis(start));
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 웹 서버 graceful shutdown(DEFAULT_PHASE - 1024), 웹 서버 stop(DEFAULT_PHASE - 2048) 이후에 실행
+     *
+     * @return
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+}
@@ -0,0 +1,13 @@
+package boot.kakaotech.communitybe.common.lifecycle;
+
+/**
+ * 메모리에 모아뒀다가 나중에 DB에 반영하는(write-behind) 상태를 가진 컴포넌트
+ * - 종료 시 ShutdownDrainLifecycle이 flushAll()을 호출해서 남은 상태를 반영
+ */
+public interface WriteBehindFlusher {
+
+    String getFlusherName();
+
+    void flushAll();
+
+}
@@ -0,0 +1,80 @@
+package boot.kakaotech.communitybe.common.persistence;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 요청 단위 엔티티 identity map
+ * - 같은 요청 안에서 같은 (타입, id)를 다시 조회하면 DB에 가지 않고 앞서 가져온 엔티티를 반환
+ * - 없는 엔티티도 기억해서 같은 id로 다시 SELECT 하지 않음
+ * - 캐시된 엔티티가 현재 영속성 컨텍스트에서 분리됐으면(트랜잭션이 끝났으면) 다시 조회해서 managed 상태를 보장
+ * - FK만 필요한 쓰기 경로는 getReference로 SELECT 없이 프록시 사용
+ */
+@Component
+@RequestScope
+@Slf4j
+public class RequestEntityCache {
+
+    private static final Object ABSENT = new Object();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final Map<EntityKey, Object> entities = new HashMap<>();
+
+    /**
+     * 엔티티 조회하는 메서드
+     * 1. 이 요청에서 이미 조회한 엔티티면 그대로 반환
+     * 2. 없으면 EntityManager로 조회 후 결과(없음 포함) 저장
+     *
+     * @param type
+     * @param id
+     * @return 없는 엔티티면 null
+     */
+    public <T> T find(Class<T> type, Integer id) {
+        if (id == null) {
+            return null;
+        }
+
+        EntityKey key = new EntityKey(type, id);
+        Object cached = entities.get(key);
+        if (cached == ABSENT) {
+            return null;
+        }
+        if (cached != null && entityManager.contains(cached)) {
+            return type.cast(cached);
+        }
+
+        T entity = entityManager.find(type, id);
+        entities.put(key, entity == null ? ABSENT : entity);
+        log.debug("[RequestEntityCache] {} 조회 - id: {}, found: {}", type.getSimpleName(), id, entity != null);
+
+        return entity;
+    }
+
+    /**
+     * FK로만 쓸 엔티티 참조 반환하는 메서드
+     * 이미 조회한 엔티티가 있으면 그걸, 없으면 SELECT 없이 프록시 반환
+     *
+     * @param type
+     * @param id
+     * @return
+     */
+    public <T> T getReference(Class<T> type, Integer id) {
+        Object cached = entities.get(new EntityKey(type, id));
+        if (cached != null && cached != ABSENT && entityManager.contains(cached)) {
+            return type.cast(cached);
+        }
+
+        return entityManager.getReference(type, id);
+    }
+
+    private record EntityKey(Class<?> type, Integer id) {}
+
+}
@@ -0,0 +1,16 @@
+package boot.kakaotech.communitybe.common.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "availability-filter")
+public class AvailabilityFilterProperty {
+
+    private long expectedInsertions;
+    private double falsePositiveRate;
+    private long rebuildIntervalMs; // 다른 인스턴스에서 쓰인 값을 반영하기 위해 필터를 새로 만드는 주기
+
+}
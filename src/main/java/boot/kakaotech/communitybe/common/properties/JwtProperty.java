@@ -5,6 +5,7 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.PropertySource;
 
+import java.time.Duration;
 import java.util.List;
 
 @Getter
@@ -17,6 +18,11 @@ public class JwtProperty {
     private ExpireTime expireTime;
     private String authorization;
     private List<String> excludedPatterns;
+    private List<String> claimsOnlyPatterns;
+    private PrincipalCache principalCache;
+    private RefreshTokenStore refreshTokenStore;
+    private long rotationGraceMs;
+    private Filter filter;
 
     @Getter
     @Setter
@@ -36,4 +42,32 @@ public class JwtProperty {
 
     }
 
+    @Getter
+    @Setter
+    public static class PrincipalCache {
+
+        private int maxSize;
+        private Duration ttl;
+
+    }
+
+    @Getter
+    @Setter
+    public static class RefreshTokenStore {
+
+        private String snapshotPath;
+        private long snapshotIntervalMs;
+        private long tickMs;
+        private int wheelSize;
+
+    }
+
+    @Getter
+    @Setter
+    public static class Filter {
+
+        private int debugLogSampleRate; // 요청마다 찍히는 DEBUG 로그를 N건 중 1건만 남김
+
+    }
+
 }
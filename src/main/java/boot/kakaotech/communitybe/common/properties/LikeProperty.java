@@ -0,0 +1,35 @@
+package boot.kakaotech.communitybe.common.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "like")
+public class LikeProperty {
+
+    private WriteBehind writeBehind;
+
+    private Index index;
+
+    @Getter
+    @Setter
+    public static class WriteBehind {
+
+        private boolean enabled;
+        private long flushIntervalMs;
+        private int chunkSize;
+        private int maxBufferSize;
+
+    }
+
+    @Getter
+    @Setter
+    public static class Index {
+
+        private long memoryBudgetBytes;
+
+    }
+
+}
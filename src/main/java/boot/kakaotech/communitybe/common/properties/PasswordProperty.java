@@ -0,0 +1,38 @@
+package boot.kakaotech.communitybe.common.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "password")
+public class PasswordProperty {
+
+    private Hashing hashing;
+
+    private Pbkdf2 pbkdf2;
+
+    @Getter
+    @Setter
+    public static class Hashing {
+
+        private int threads; // 0 이하면 CPU 코어 수
+        private int queueCapacity;
+        private Duration waitTimeout;
+
+    }
+
+    @Getter
+    @Setter
+    public static class Pbkdf2 {
+
+        private boolean calibrate; // false면 floor-iterations 그대로 사용
+        private Duration targetLatency;
+        private int floorIterations;
+
+    }
+
+}
@@ -0,0 +1,35 @@
+package boot.kakaotech.communitybe.common.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "post")
+public class PostProperty {
+
+    private Detail detail;
+
+    private Content content;
+
+    @Getter
+    @Setter
+    public static class Detail {
+
+        private boolean parallel;
+        private long timeoutMs;
+        private int maxConcurrentForks;
+
+    }
+
+    @Getter
+    @Setter
+    public static class Content {
+
+        private boolean legacyColumn; // post.content 컬럼 삭제 전까지 dual-write, post_content row가 없으면 post.content 읽기
+        private long backfillIntervalMs; // legacy-column이 켜져 있는 동안 post.content → post_content 옮기는 주기
+
+    }
+
+}
@@ -0,0 +1,29 @@
+package boot.kakaotech.communitybe.common.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperty {
+
+    private boolean enabled;
+    private Limit ip;
+    private Limit account;
+    private Duration idleTimeout; // 버킷이 가득 차는 시간보다 길어야 함
+    private long sweepIntervalMs;
+
+    @Getter
+    @Setter
+    public static class Limit {
+
+        private long capacity;
+        private long refillPerMinute;
+
+    }
+
+}
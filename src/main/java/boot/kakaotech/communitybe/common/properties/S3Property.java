@@ -4,6 +4,8 @@ import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+
 @Getter
 @Setter
 @ConfigurationProperties(prefix = "cloud.aws")
@@ -20,6 +22,16 @@ public class S3Property {
     public static class S3 {
 
         private String bucket;
+        private PresignCache presignCache;
+
+    }
+
+    @Getter
+    @Setter
+    public static class PresignCache {
+
+        private int maxSize;
+        private Duration safetyMargin;
 
     }
 
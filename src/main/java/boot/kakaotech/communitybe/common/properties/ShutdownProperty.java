@@ -4,11 +4,13 @@ import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+
 @Getter
 @Setter
-@ConfigurationProperties(prefix = "prefix")
-public class PrefixProperty {
+@ConfigurationProperties(prefix = "shutdown")
+public class ShutdownProperty {
 
-    private String viewCount;
+    private Duration drainTimeout;
 
 }
@@ -0,0 +1,36 @@
+package boot.kakaotech.communitybe.common.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "view-count")
+public class ViewCountProperty {
+
+    private Flush flush;
+
+    private Journal journal;
+
+    @Getter
+    @Setter
+    public static class Flush {
+
+        private long intervalMs;
+        private int chunkSize;
+
+    }
+
+    @Getter
+    @Setter
+    public static class Journal {
+
+        private boolean enabled;
+        private String directory;
+        private int segmentSizeBytes;
+        private long forceIntervalMs;
+
+    }
+
+}
@@ -1,9 +1,14 @@
 package boot.kakaotech.communitybe.common.s3.service;
 
+import java.util.Collection;
+import java.util.Map;
+
 public interface S3Service {
 
     String createGETPresignedUrl(String bucketName, String keyName);
 
+    Map<String, String> presignAll(Collection<String> keyNames);
+
     String createPUTPresignedUrl(String bucketName, String keyName);
 
     String makeUserProfileKey(String email, String profileImageName);
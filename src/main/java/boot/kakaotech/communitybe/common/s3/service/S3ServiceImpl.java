@@ -1,8 +1,13 @@
 package boot.kakaotech.communitybe.common.s3.service;
 
 import boot.kakaotech.communitybe.common.properties.S3Property;
+import boot.kakaotech.communitybe.common.util.ExpiringCache;
 import boot.kakaotech.communitybe.common.util.ThreadLocalContext;
 import boot.kakaotech.communitybe.user.entity.User;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -15,6 +20,9 @@ import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequ
 import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -25,9 +33,45 @@ public class S3ServiceImpl implements S3Service {
     private final S3Presigner presigner;
     private final ThreadLocalContext context;
     private final S3Property property;
+    private final MeterRegistry meterRegistry;
+
+    private ExpiringCache<PresignKey, String> presignedUrlCache;
+
+    /**
+     * GET presigned url 캐시 생성 및 메트릭 등록
+     */
+    @PostConstruct
+    public void initPresignCache() {
+        presignedUrlCache = new ExpiringCache<>(property.getS3().getPresignCache().getMaxSize());
+
+        Gauge.builder("s3.presign.cache.size", presignedUrlCache, ExpiringCache::size)
+                .register(meterRegistry);
+        FunctionCounter.builder("s3.presign.cache.requests", presignedUrlCache, ExpiringCache::hitCount)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("s3.presign.cache.requests", presignedUrlCache, ExpiringCache::missCount)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        FunctionCounter.builder("s3.presign.cache.evictions", presignedUrlCache, ExpiringCache::evictionCount)
+                .register(meterRegistry);
+    }
 
+    /**
+     * GET presigned url 발급하는 메서드
+     * - 같은 (bucket, key)는 서명 만료 safety-margin 전까지 캐시된 url 재사용
+     *
+     * @param bucketName
+     * @param keyName
+     * @return
+     */
     @Override
     public String createGETPresignedUrl(String bucketName, String keyName) {
+        PresignKey cacheKey = new PresignKey(bucketName, keyName);
+        String cached = presignedUrlCache.get(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+
         GetObjectRequest objectRequest = GetObjectRequest.builder()
                 .bucket(bucketName)
                 .key(keyName)
@@ -39,10 +83,36 @@ public class S3ServiceImpl implements S3Service {
                 .build();
 
         PresignedGetObjectRequest presignedRequest = presigner.presignGetObject(presignRequest);
-        log.info("PresignedGetObjectRequest: {}", presignedRequest.url().toString());
-        log.info("HttpMethod: {}", presignedRequest.httpRequest().method());
+        log.debug("PresignedGetObjectRequest: {}", presignedRequest.url());
 
-        return presignedRequest.url().toExternalForm();
+        String url = presignedRequest.url().toExternalForm();
+        Duration safetyMargin = property.getS3().getPresignCache().getSafetyMargin();
+        presignedUrlCache.put(cacheKey, url, presignedRequest.expiration().minus(safetyMargin).toEpochMilli());
+
+        return url;
+    }
+
+    /**
+     * 기본 버킷의 여러 key에 대해 GET presigned url 한 번에 발급하는 메서드
+     * - null/빈 key는 제외, 중복 key는 한 번만 발급
+     *
+     * @param keyNames
+     * @return key -> presigned url
+     */
+    @Override
+    public Map<String, String> presignAll(Collection<String> keyNames) {
+        String bucketName = property.getS3().getBucket();
+        Map<String, String> presignedUrls = new HashMap<>();
+
+        keyNames.forEach(keyName -> {
+            if (keyName == null || keyName.isBlank() || presignedUrls.containsKey(keyName)) {
+                return;
+            }
+
+            presignedUrls.put(keyName, createGETPresignedUrl(bucketName, keyName));
+        });
+
+        return presignedUrls;
     }
 
     @Override
@@ -83,4 +153,6 @@ public class S3ServiceImpl implements S3Service {
         return createGETPresignedUrl(property.getS3().getBucket(), profileImageKey);
     }
 
+    private record PresignKey(String bucket, String key) {}
+
 }
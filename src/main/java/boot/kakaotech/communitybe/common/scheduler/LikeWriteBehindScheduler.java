@@ -0,0 +1,163 @@
+package boot.kakaotech.communitybe.common.scheduler;
+
+import boot.kakaotech.communitybe.common.lifecycle.WriteBehindFlusher;
+import boot.kakaotech.communitybe.common.properties.LikeProperty;
+import boot.kakaotech.communitybe.common.util.LikeBuffer;
+import boot.kakaotech.communitybe.post.dto.LikeIntent;
+import boot.kakaotech.communitybe.post.dto.LikeIntentResult;
+import boot.kakaotech.communitybe.post.index.LikedPostIndex;
+import boot.kakaotech.communitybe.post.repository.PostRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * LikeBuffer에 쌓인 좋아요 의도를 주기적으로 DB에 반영하는 스케줄러
+ * - 버퍼는 인스턴스마다 따로 있으므로 순서는 인스턴스 안에서만 보장됨
+ *   같은 유저의 좋아요/취소가 서로 다른 인스턴스로 가면, 마지막 요청이 아니라 마지막으로 flush한 인스턴스의 의도가 남음
+ * - 여러 인스턴스로 운영할 때는 유저 기준 sticky routing을 두거나 like.write-behind.enabled를 끄고 사용
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LikeWriteBehindScheduler implements WriteBehindFlusher {
+
+    private final LikeBuffer likeBuffer;
+
+    private final LikedPostIndex likedPostIndex;
+
+    private final PostRepository postRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final LikeProperty property;
+
+    private final MeterRegistry meterRegistry;
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    @PostConstruct
+    private void registerMetrics() {
+        meterRegistry.gauge("like.buffer.size", likeBuffer, LikeBuffer::size);
+        meterRegistry.gauge("like.buffer.max-size", likeBuffer, LikeBuffer::getMaxSize);
+        FunctionCounter.builder("like.buffer.overflows", likeBuffer, LikeBuffer::getOverflowCount)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 버퍼에 쌓인 좋아요 의도를 DB에 반영하는 작업
+     * 1. 버퍼 snapshot을 (postId, userId) 순으로 정렬해서 chunk-size씩 나눔
+     *    (인스턴스끼리 같은 순서로 row 락을 잡게 해 데드락 방지)
+     * 2. chunk마다 짧은 트랜잭션 하나로 insert/delete batch와 좋아요 수 갱신
+     * 3. 성공한 chunk는 버퍼에서 제거, 실패한 chunk는 남겨서 다음 주기에 재시도
+     *    LikedPostIndex에는 실제로 row를 바꾼 의도만 반영 (삭제된 게시글 좋아요처럼 무시된 의도는 반영하지 않음)
+     * - 종료 시 flush와 겹치지 않도록 flushLock으로 한 번에 하나만 실행
+     */
+    @Scheduled(fixedDelayString = "${like.write-behind.flush-interval-ms}")
+    public void syncLikes() {
+        flushLock.lock();
+        try {
+            flush();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Override
+    public String getFlusherName() {
+        return "like";
+    }
+
+    @Override
+    public void flushAll() {
+        syncLikes();
+    }
+
+    private void flush() {
+        Map<Long, Boolean> snapshot = likeBuffer.snapshot();
+        if (snapshot.isEmpty()) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        int chunkSize = property.getWriteBehind().getChunkSize();
+
+        int rows = 0;
+        int failedChunks = 0;
+        Map<Long, Boolean> chunk = new TreeMap<>();
+
+        for (Map.Entry<Long, Boolean> entry : new TreeMap<>(snapshot).entrySet()) {
+            chunk.put(entry.getKey(), entry.getValue());
+
+            if (chunk.size() < chunkSize) {
+                continue;
+            }
+
+            int changed = flushChunk(chunk);
+            if (changed < 0) {
+                failedChunks++;
+            } else {
+                rows += changed;
+            }
+            chunk = new TreeMap<>();
+        }
+
+        if (!chunk.isEmpty()) {
+            int changed = flushChunk(chunk);
+            if (changed < 0) {
+                failedChunks++;
+            } else {
+                rows += changed;
+            }
+        }
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        meterRegistry.counter("like.flush.intents").increment(snapshot.size());
+        meterRegistry.counter("like.flush.rows").increment(rows);
+        meterRegistry.counter("like.flush.failures").increment(failedChunks);
+        meterRegistry.timer("like.flush.duration").record(elapsed);
+
+        log.info("[LikeWriteBehindScheduler] 좋아요 동기화 완료 - intents: {}, rows: {}, failedChunks: {}, elapsed: {}ms",
+                snapshot.size(), rows, failedChunks, elapsed.toMillis());
+    }
+
+    /**
+     * chunk 하나를 트랜잭션 하나로 반영하고, 성공하면 버퍼에서 제거하는 메서드
+     * - 반영 여부를 알 수 없는 유저는 LikedPostIndex에서 버려서 다음 조회 때 DB에서 다시 읽게 함
+     *
+     * @param chunk
+     * @return 바뀐 row 수, 실패 시 -1
+     */
+    private int flushChunk(Map<Long, Boolean> chunk) {
+        List<LikeIntent> intents = new ArrayList<>(chunk.size());
+        chunk.forEach((key, liked) -> intents.add(
+                new LikeIntent(LikeBuffer.postIdOf(key), LikeBuffer.userIdOf(key), liked)));
+
+        try {
+            LikeIntentResult result = transactionTemplate.execute(status -> postRepository.applyLikeIntents(intents));
+            if (result != null) {
+                result.applied().forEach(intent -> likedPostIndex.update(intent.userId(), intent.postId(), intent.liked()));
+                result.unknownUserIds().forEach(likedPostIndex::invalidate);
+            }
+
+            chunk.forEach(likeBuffer::release);
+            return result == null ? 0 : result.changedRows();
+        } catch (Exception e) {
+            log.warn("[LikeWriteBehindScheduler] 좋아요 동기화 실패 - chunk: {}개 - {}", chunk.size(), e.getMessage());
+            return -1;
+        }
+    }
+
+}
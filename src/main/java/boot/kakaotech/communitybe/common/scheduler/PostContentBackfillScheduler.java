@@ -0,0 +1,68 @@
+package boot.kakaotech.communitybe.common.scheduler;
+
+import boot.kakaotech.communitybe.post.repository.PostContentStore;
+import boot.kakaotech.communitybe.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostContentBackfillScheduler {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final PostRepository postRepository;
+
+    private final PostContentStore postContentStore;
+
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 롤링 배포 중 이전 버전 인스턴스가 post.content에만 쓴 본문을 post_content와 excerpt로 옮기는 작업
+     * - post.content.legacy-column이 켜져 있을 때만 실행 (꺼지면 post.content는 더 이상 쓰이지 않음)
+     * - 조회 경로에서는 backfill하지 않으므로, 이전 버전이 수정한 본문은 이 작업이 돌기 전까지 새 버전에서 반영되지 않음
+     * - id 범위 청크마다 짧은 트랜잭션으로 나눠 긴 락 방지
+     */
+    @Scheduled(
+            initialDelayString = "${post.content.backfill-interval-ms}",
+            fixedDelayString = "${post.content.backfill-interval-ms}"
+    )
+    public void backfillContents() {
+        if (!postContentStore.isLegacyColumn()) {
+            return;
+        }
+
+        Integer maxId = postRepository.findMaxPostId();
+
+        if (maxId == null) {
+            return;
+        }
+
+        int affected = 0;
+        int fail = 0;
+
+        for (int from = 1; from <= maxId; from += CHUNK_SIZE) {
+            int fromId = from;
+            int toId = Math.min(from + CHUNK_SIZE - 1, maxId);
+
+            try {
+                Integer updated = transactionTemplate.execute(
+                        status -> postContentStore.backfill(fromId, toId)
+                );
+                affected += updated == null ? 0 : updated;
+            } catch (Exception e) {
+                fail++;
+                log.warn("[PostContentBackfillScheduler] 본문 backfill 실패 range={}~{} - {}", fromId, toId, e.getMessage());
+            }
+        }
+
+        if (affected > 0 || fail > 0) {
+            log.info("[PostContentBackfillScheduler] 본문 backfill 완료 - affectedRows: {}, failedChunks: {}", affected, fail);
+        }
+    }
+
+}
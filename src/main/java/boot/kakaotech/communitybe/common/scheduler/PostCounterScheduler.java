@@ -0,0 +1,57 @@
+package boot.kakaotech.communitybe.common.scheduler;
+
+import boot.kakaotech.communitybe.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostCounterScheduler {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final PostRepository postRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 게시글 좋아요/댓글 카운터를 실제 row 수와 맞추는 보정 작업
+     * - 좋아요/댓글 변경 시 카운터는 증감으로만 관리되므로 어긋난 값을 주기적으로 복구
+     * - id 범위 청크마다 짧은 트랜잭션으로 나눠 긴 락 방지
+     */
+    @Scheduled(cron = "0 0 4 * * *")
+    public void reconcileCounters() {
+        Integer maxId = postRepository.findMaxPostId();
+
+        if (maxId == null) {
+            return;
+        }
+
+        log.info("[PostCounterScheduler] 카운터 보정 시작 - maxId: {}", maxId);
+
+        int repaired = 0;
+        int fail = 0;
+
+        for (int from = 1; from <= maxId; from += CHUNK_SIZE) {
+            int fromId = from;
+            int toId = Math.min(from + CHUNK_SIZE - 1, maxId);
+
+            try {
+                Integer updated = transactionTemplate.execute(
+                        status -> postRepository.reconcileCounters(fromId, toId)
+                );
+                repaired += updated == null ? 0 : updated;
+            } catch (Exception e) {
+                fail++;
+                log.warn("[PostCounterScheduler] 카운터 보정 실패 range={}~{} - {}", fromId, toId, e.getMessage());
+            }
+        }
+
+        log.info("[PostCounterScheduler] 카운터 보정 완료 - repaired: {}, failedChunks: {}", repaired, fail);
+    }
+
+}
@@ -1,70 +1,268 @@
 package boot.kakaotech.communitybe.common.scheduler;
 
-import boot.kakaotech.communitybe.common.properties.PrefixProperty;
-import boot.kakaotech.communitybe.common.util.KeyValueStore;
+import boot.kakaotech.communitybe.common.lifecycle.WriteBehindFlusher;
+import boot.kakaotech.communitybe.common.properties.ViewCountProperty;
+import boot.kakaotech.communitybe.common.util.ViewCountStore;
 import boot.kakaotech.communitybe.post.repository.PostRepository;
+import boot.kakaotech.communitybe.post.repository.ViewCountFlushLogRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
-public class ViewCountScheduler {
+public class ViewCountScheduler implements WriteBehindFlusher {
 
-    private final KeyValueStore kvStore;
+    private final ViewCountStore viewCountStore;
 
     private final PostRepository postRepository;
 
-    private final PrefixProperty property;
+    private final ViewCountFlushLogRepository flushLogRepository;
 
-    @Scheduled(fixedDelayString = "300000")
-    @Transactional
+    private final TransactionTemplate transactionTemplate;
+
+    private final ViewCountProperty property;
+
+    private final MeterRegistry meterRegistry;
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private ScheduledExecutorService journalCommitter;
+
+    /**
+     * 저널 group commit 전용 스레드 시작하는 메서드
+     * - 공유 스케줄러 풀에서 돌리면 오래 걸리는 flush나 집계 보정 작업 뒤에 밀려 force 주기가 늘어나고,
+     *   그만큼 OS 장애 시 유실 범위가 커지므로 스레드 하나를 따로 둠
+     */
+    @PostConstruct
+    private void startJournalCommitter() {
+        if (!property.getJournal().isEnabled()) {
+            return;
+        }
+
+        long interval = property.getJournal().getForceIntervalMs();
+        journalCommitter = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("view-count-journal-commit").daemon().factory()
+        );
+        journalCommitter.scheduleWithFixedDelay(this::commitJournal, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    private void stopJournalCommitter() {
+        if (journalCommitter == null) {
+            return;
+        }
+
+        journalCommitter.shutdown();
+        try {
+            journalCommitter.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        commitJournal();
+    }
+
+    /**
+     * 쌓인 조회수 증가분을 DB에 반영하는 작업
+     * 1. viewCountStore에서 스냅샷(segment별 증가분) drain
+     * 2. 스냅샷마다 postId 순으로 chunk-size씩 나눠 chunk마다 짧은 트랜잭션 하나로 JDBC batch update
+     *    (인스턴스끼리 같은 순서로 row 락을 잡게 해 데드락 방지)
+     * 3. 같은 트랜잭션에서 반영한 구간을 view_count_flush_log에 기록 (재시작 시 중복 반영 방지)
+     * 4. 실패한 chunk는 롤백되므로 남은 증가분을 같은 segment 그대로 store에 돌려놓고 다음 주기에 재시도
+     * 5. 전부 반영된 스냅샷은 segment와 반영 기록 삭제
+     * 6. 반영 row 수, 소요 시간, 실패 chunk 수 메트릭 기록
+     * - 종료 시 flush와 겹치지 않도록 flushLock으로 한 번에 하나만 실행
+     */
+    @Scheduled(fixedDelayString = "${view-count.flush.interval-ms}")
     public void syncViewCount() {
-        Map<String, String> snapshot = kvStore.snapShotAndClear();
+        flushLock.lock();
+        try {
+            flush();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Override
+    public String getFlusherName() {
+        return "view-count";
+    }
+
+    @Override
+    public void flushAll() {
+        syncViewCount();
+    }
+
+    private void flush() {
+        List<ViewCountStore.Snapshot> snapshots = viewCountStore.drain();
 
-        if (snapshot.isEmpty()) {
+        if (snapshots.isEmpty()) {
             return;
         }
 
-        String viewPrefix = property.getViewCount();
+        long start = System.nanoTime();
+        FlushStats stats = new FlushStats();
 
-        log.info("[ViewCountScheduler] 조회수 동기화 시작 - {}개", snapshot.size());
+        for (ViewCountStore.Snapshot snapshot : snapshots) {
+            flushSnapshot(snapshot, stats);
+        }
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        meterRegistry.counter("viewcount.flush.rows").increment(stats.rows);
+        meterRegistry.counter("viewcount.flush.failures").increment(stats.failedChunks);
+        meterRegistry.timer("viewcount.flush.duration").record(elapsed);
 
-        int success = 0;
-        int fail = 0;
+        log.info("[ViewCountScheduler] 조회수 동기화 완료 - snapshots: {}, posts: {}, rows: {}, failedChunks: {}, elapsed: {}ms",
+                snapshots.size(), stats.posts, stats.rows, stats.failedChunks, elapsed.toMillis());
+    }
 
-        for (Map.Entry<String, String> entry : snapshot.entrySet()) {
-            String key = entry.getKey();
-            String value = entry.getValue();
+    /**
+     * 스냅샷 하나를 chunk로 나눠 반영하는 메서드
+     * 1. 이전 프로세스가 남긴 스냅샷이면 이미 반영된 구간 제외
+     * 2. chunk별로 반영, 실패한 chunk는 모아뒀다가 retry
+     * 3. 모두 반영됐으면 segment 삭제 후 반영 기록 삭제 (순서가 바뀌면 그 사이 죽었을 때 중복 반영)
+     *
+     * @param snapshot
+     * @param stats
+     */
+    private void flushSnapshot(ViewCountStore.Snapshot snapshot, FlushStats stats) {
+        String segmentKey = snapshot.segment() == null ? null : snapshot.segment().getKey();
+        Map<Integer, Long> deltas = snapshot.deltas();
 
-            if (!key.startsWith(viewPrefix)) {
+        if (snapshot.recovered()) {
+            try {
+                deltas = excludeApplied(deltas, segmentKey);
+            } catch (Exception e) {
+                log.warn("[ViewCountScheduler] 반영 기록 조회 실패, 다음 주기에 재시도 - {} - {}", segmentKey, e.getMessage());
+                viewCountStore.retry(snapshot);
+                stats.failedChunks++;
+                return;
+            }
+        }
+
+        int chunkSize = property.getFlush().getChunkSize();
+        Map<Integer, Long> failed = new HashMap<>();
+        TreeMap<Integer, Long> chunk = new TreeMap<>();
+
+        for (Map.Entry<Integer, Long> entry : new TreeMap<>(deltas).entrySet()) {
+            chunk.put(entry.getKey(), entry.getValue());
+
+            if (chunk.size() < chunkSize) {
                 continue;
             }
 
+            flushChunk(chunk, segmentKey, failed, stats);
+            chunk = new TreeMap<>();
+        }
+
+        if (!chunk.isEmpty()) {
+            flushChunk(chunk, segmentKey, failed, stats);
+        }
+
+        stats.posts += deltas.size();
+
+        if (!failed.isEmpty()) {
+            viewCountStore.retry(snapshot.withDeltas(failed));
+            return;
+        }
+
+        viewCountStore.release(snapshot);
+        if (segmentKey != null) {
             try {
-                String idPart = key.substring(viewPrefix.length());
-                int postId = Integer.parseInt(idPart);
-                int viewCount = Integer.parseInt(value);
-
-                // 기존 값에 증가값(delta) 더해서 저장 - 다중 인스턴스 고려
-                int updated = postRepository.updateViewCountByPostId(postId, viewCount);
-                if (updated > 0) {
-                    success++;
-                } else {
-                    fail++;
-                }
+                flushLogRepository.deleteBySegment(segmentKey);
             } catch (Exception e) {
-                fail++;
-                log.warn("[ViewCountScheduler] 조회수 동기화 실패 key={}, value={} - {}", key, value, e.getMessage());
+                log.warn("[ViewCountScheduler] 반영 기록 삭제 실패 - {} - {}", segmentKey, e.getMessage());
             }
+        }
+    }
 
-            log.info("[ViewCountScheduler] 조회수 동기화 완 - success: {}, fail: {}", success, fail);
+    /**
+     * 저널에 쌓인 조회수 증가분을 모아서 디스크에 동기화하는 작업 (group commit)
+     * - 전용 스레드에서 view-count.journal.force-interval-ms마다 실행
+     * - 예외가 밖으로 나가면 이후 실행이 모두 취소되므로 여기서 잡아서 기록만 함
+     */
+    public void commitJournal() {
+        try {
+            viewCountStore.force();
+        } catch (Exception e) {
+            log.warn("[ViewCountScheduler] 저널 동기화 실패 - {}", e.getMessage());
         }
     }
 
+    /**
+     * chunk 하나를 트랜잭션 하나로 반영하는 메서드
+     * - 조회수 증가와 반영 구간 기록을 같은 트랜잭션으로 묶음
+     * - 실패하면 chunk를 failed에 모음
+     *
+     * @param chunk
+     * @param segmentKey
+     * @param failed
+     * @param stats
+     */
+    private void flushChunk(TreeMap<Integer, Long> chunk, String segmentKey, Map<Integer, Long> failed, FlushStats stats) {
+        try {
+            Integer updated = transactionTemplate.execute(status -> {
+                int rows = postRepository.addViewCounts(chunk);
+                if (segmentKey != null) {
+                    flushLogRepository.record(segmentKey, chunk.firstKey(), chunk.lastKey());
+                }
+                return rows;
+            });
+            stats.rows += updated == null ? 0 : updated;
+        } catch (Exception e) {
+            failed.putAll(chunk);
+            stats.failedChunks++;
+            log.warn("[ViewCountScheduler] 조회수 동기화 실패 - chunk: {}개 - {}", chunk.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 이미 반영된 구간에 속한 게시글을 뺀 증가분 반환하는 메서드
+     *
+     * @param deltas
+     * @param segmentKey
+     * @return
+     */
+    private Map<Integer, Long> excludeApplied(Map<Integer, Long> deltas, String segmentKey) {
+        List<ViewCountFlushLogRepository.AppliedRange> applied = flushLogRepository.findAppliedRanges(segmentKey);
+
+        if (applied.isEmpty()) {
+            return deltas;
+        }
+
+        Map<Integer, Long> remaining = new HashMap<>();
+        deltas.forEach((postId, delta) -> {
+            if (applied.stream().noneMatch(range -> range.contains(postId))) {
+                remaining.put(postId, delta);
+            }
+        });
+
+        log.info("[ViewCountScheduler] 이미 반영된 구간 제외 - {}, 제외: {}개", segmentKey, deltas.size() - remaining.size());
+        return remaining;
+    }
+
+    private static class FlushStats {
+
+        private int posts;
+        private int rows;
+        private int failedChunks;
+
+    }
+
 }
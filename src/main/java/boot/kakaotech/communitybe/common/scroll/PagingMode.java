@@ -0,0 +1,12 @@
+package boot.kakaotech.communitybe.common.scroll;
+
+/**
+ * 무한스크롤 페이징 방식
+ * - KEYSET: 직전 페이지 마지막 id를 cursor로 사용, 페이지 깊이와 무관하게 일정한 비용
+ * - OFFSET: cursor를 페이지 번호로 사용하는 기존 방식, mode를 생략하면 이 방식 (기존 클라이언트 호환)
+ */
+public enum PagingMode {
+
+    KEYSET, OFFSET;
+
+}
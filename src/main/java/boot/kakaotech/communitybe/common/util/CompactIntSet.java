@@ -0,0 +1,273 @@
+package boot.kakaotech.communitybe.common.util;
+
+import java.util.Arrays;
+
+/**
+ * 음이 아닌 int 집합을 압축해서 보관하는 roaring 방식 bitmap
+ * - 값의 상위 16bit로 container를 나누고, container마다 하위 16bit만 저장
+ * - container 원소가 4096개 이하면 정렬된 char 배열(원소당 2byte), 넘으면 8KB bitmap으로 전환
+ * - 게시글 id처럼 듬성듬성한 값은 배열로, 몰려있는 값은 bitmap으로 저장돼 HashSet보다 훨씬 작음
+ * - 스레드 안전하지 않음, 동시 접근은 호출하는 쪽에서 동기화
+ */
+public class CompactIntSet {
+
+    private static final int ARRAY_MAX = 4096;
+    private static final int BITMAP_WORDS = 1024;
+
+    private char[] keys = new char[0];
+    private Container[] containers = new Container[0];
+    private int size;
+
+    public boolean contains(int value) {
+        int index = Arrays.binarySearch(keys, 0, keys.length, high(value));
+        return index >= 0 && containers[index].contains(low(value));
+    }
+
+    /**
+     * 값 추가하는 메서드
+     *
+     * @param value
+     * @return 새로 추가됐으면 true
+     */
+    public boolean add(int value) {
+        char high = high(value);
+        int index = Arrays.binarySearch(keys, 0, keys.length, high);
+
+        if (index < 0) {
+            index = -index - 1;
+            keys = insertAt(keys, index, high);
+            Container[] grown = new Container[containers.length + 1];
+            System.arraycopy(containers, 0, grown, 0, index);
+            System.arraycopy(containers, index, grown, index + 1, containers.length - index);
+            grown[index] = new ArrayContainer();
+            containers = grown;
+        }
+
+        Container container = containers[index];
+        int before = container.cardinality();
+        containers[index] = container.add(low(value));
+
+        if (containers[index].cardinality() == before) {
+            return false;
+        }
+        size++;
+        return true;
+    }
+
+    /**
+     * 값 제거하는 메서드
+     *
+     * @param value
+     * @return 있어서 제거됐으면 true
+     */
+    public boolean remove(int value) {
+        int index = Arrays.binarySearch(keys, 0, keys.length, high(value));
+        if (index < 0) {
+            return false;
+        }
+
+        Container container = containers[index];
+        int before = container.cardinality();
+        containers[index] = container.remove(low(value));
+
+        if (containers[index].cardinality() == before) {
+            return false;
+        }
+        size--;
+
+        if (containers[index].cardinality() == 0) {
+            keys = removeAt(keys, index);
+            Container[] shrunk = new Container[containers.length - 1];
+            System.arraycopy(containers, 0, shrunk, 0, index);
+            System.arraycopy(containers, index + 1, shrunk, index, containers.length - index - 1);
+            containers = shrunk;
+        }
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 대략적인 메모리 사용량 반환하는 메서드 (객체 헤더, 배열 포함)
+     *
+     * @return
+     */
+    public long memoryBytes() {
+        long bytes = 16 + 16 + keys.length * 2L + 16 + containers.length * 4L;
+        for (Container container : containers) {
+            bytes += container.memoryBytes();
+        }
+        return bytes;
+    }
+
+    private static char high(int value) {
+        return (char) (value >>> 16);
+    }
+
+    private static char low(int value) {
+        return (char) value;
+    }
+
+    private static char[] insertAt(char[] array, int index, char value) {
+        char[] grown = new char[array.length + 1];
+        System.arraycopy(array, 0, grown, 0, index);
+        grown[index] = value;
+        System.arraycopy(array, index, grown, index + 1, array.length - index);
+        return grown;
+    }
+
+    private static char[] removeAt(char[] array, int index) {
+        char[] shrunk = new char[array.length - 1];
+        System.arraycopy(array, 0, shrunk, 0, index);
+        System.arraycopy(array, index + 1, shrunk, index, array.length - index - 1);
+        return shrunk;
+    }
+
+    private interface Container {
+
+        boolean contains(char value);
+
+        Container add(char value);
+
+        Container remove(char value);
+
+        int cardinality();
+
+        long memoryBytes();
+
+    }
+
+    /**
+     * 정렬된 char 배열 container (원소 4096개 이하)
+     */
+    private static class ArrayContainer implements Container {
+
+        private char[] values = new char[4];
+        private int cardinality;
+
+        @Override
+        public boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+        @Override
+        public Container add(char value) {
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index >= 0) {
+                return this;
+            }
+
+            if (cardinality == ARRAY_MAX) {
+                return toBitmap().add(value);
+            }
+
+            index = -index - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_MAX, values.length * 2));
+            }
+            System.arraycopy(values, index, values, index + 1, cardinality - index);
+            values[index] = value;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        public Container remove(char value) {
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index < 0) {
+                return this;
+            }
+
+            System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+            cardinality--;
+            if (values.length > 8 && cardinality < values.length / 4) {
+                values = Arrays.copyOf(values, values.length / 2);
+            }
+            return this;
+        }
+
+        @Override
+        public int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        public long memoryBytes() {
+            return 16 + 16 + values.length * 2L;
+        }
+
+        private BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < cardinality; i++) {
+                bitmap.add(values[i]);
+            }
+            return bitmap;
+        }
+
+    }
+
+    /**
+     * 65536bit bitmap container (원소 4096개 초과)
+     */
+    private static class BitmapContainer implements Container {
+
+        private final long[] words = new long[BITMAP_WORDS];
+        private int cardinality;
+
+        @Override
+        public boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        public Container add(char value) {
+            long before = words[value >>> 6];
+            long after = before | (1L << value);
+            if (before != after) {
+                words[value >>> 6] = after;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        public Container remove(char value) {
+            long before = words[value >>> 6];
+            long after = before & ~(1L << value);
+            if (before == after) {
+                return this;
+            }
+
+            words[value >>> 6] = after;
+            cardinality--;
+            return cardinality <= ARRAY_MAX / 2 ? toArray() : this;
+        }
+
+        @Override
+        public int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        public long memoryBytes() {
+            return 16 + 16 + BITMAP_WORDS * 8L;
+        }
+
+        private ArrayContainer toArray() {
+            ArrayContainer array = new ArrayContainer();
+            for (int word = 0; word < BITMAP_WORDS; word++) {
+                long bits = words[word];
+                while (bits != 0) {
+                    int bit = Long.numberOfTrailingZeros(bits);
+                    array.add((char) (word * 64 + bit));
+                    bits &= bits - 1;
+                }
+            }
+            return array;
+        }
+
+    }
+
+}
@@ -0,0 +1,101 @@
+package boot.kakaotech.communitybe.common.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 크기 제한과 항목별 만료 시각을 가진 in-process 캐시 (Caffeine 기반)
+ * - 조회/저장이 전역 락 없이 동시에 진행되므로 presign, 인증 주체, 필터처럼 요청마다 거치는 경로에서 사용
+ * - 최대 크기를 넘으면 Caffeine의 W-TinyLFU 정책으로 자주 안 쓰이는 항목부터 제거
+ * - 만료 시각이 지난 항목은 miss로 처리
+ * - 값 로딩은 호출자가 수행 (동시 miss 시 중복 로딩은 허용)
+ */
+public class ExpiringCache<K, V> {
+
+    private final Cache<K, CacheEntry<V>> entries;
+
+    public ExpiringCache(int maxSize) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new EntryExpiry<K, V>())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 캐시된 값 반환하는 메서드
+     * 없거나 만료됐으면 null
+     *
+     * @param key
+     * @return
+     */
+    public V get(K key) {
+        CacheEntry<V> entry = entries.getIfPresent(key);
+        return entry == null ? null : entry.value();
+    }
+
+    /**
+     * 만료 시각과 함께 값 저장하는 메서드
+     *
+     * @param key
+     * @param value
+     * @param expiresAtMillis
+     */
+    public void put(K key, V value, long expiresAtMillis) {
+        entries.put(key, new CacheEntry<>(value, expiresAtMillis));
+    }
+
+    public void invalidate(K key) {
+        entries.invalidate(key);
+    }
+
+    public long size() {
+        return entries.estimatedSize();
+    }
+
+    public long hitCount() {
+        return entries.stats().hitCount();
+    }
+
+    public long missCount() {
+        return entries.stats().missCount();
+    }
+
+    public long evictionCount() {
+        return entries.stats().evictionCount();
+    }
+
+    private record CacheEntry<V>(V value, long expiresAtMillis) {
+
+        long remainingNanos() {
+            return Math.max(0, TimeUnit.MILLISECONDS.toNanos(expiresAtMillis - System.currentTimeMillis()));
+        }
+
+    }
+
+    /**
+     * 항목마다 저장할 때 받은 만료 시각까지만 유지 (조회로는 연장되지 않음)
+     */
+    private static class EntryExpiry<K, V> implements Expiry<K, CacheEntry<V>> {
+
+        @Override
+        public long expireAfterCreate(K key, CacheEntry<V> entry, long currentTime) {
+            return entry.remainingNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(K key, CacheEntry<V> entry, long currentTime, long currentDuration) {
+            return entry.remainingNanos();
+        }
+
+        @Override
+        public long expireAfterRead(K key, CacheEntry<V> entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+    }
+
+}
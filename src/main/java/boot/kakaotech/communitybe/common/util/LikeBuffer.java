@@ -0,0 +1,110 @@
+package boot.kakaotech.communitybe.common.util;
+
+import boot.kakaotech.communitybe.common.properties.LikeProperty;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 아직 DB에 반영되지 않은 좋아요 의도(write-behind) 버퍼
+ * - (postId, userId)를 long 하나로 묶은 key -> 마지막 의도(true: 좋아요, false: 취소)
+ * - 같은 유저가 빠르게 눌렀다 취소해도 마지막 상태 하나만 남음
+ * - flush는 snapshot() 후 DB에 반영하고 release()로 지우는데,
+ *   그 사이 의도가 바뀌었으면 값이 달라 지워지지 않고 다음 flush에 다시 반영됨
+ * - 크기는 like.write-behind.max-buffer-size로 제한 (DB 장애로 flush가 계속 실패해도 메모리가 무한히 늘지 않게)
+ *   실패한 chunk도 release되지 않고 남아있으므로 같이 계산됨
+ */
+@Component
+@RequiredArgsConstructor
+public class LikeBuffer {
+
+    private final LikeProperty property;
+
+    private final ConcurrentHashMap<Long, Boolean> intents = new ConcurrentHashMap<>();
+
+    private final LongAdder overflows = new LongAdder();
+
+    /**
+     * 좋아요 의도를 버퍼에 기록하는 메서드
+     * 1. 이미 버퍼에 있는 key면 크기가 늘지 않으므로 항상 마지막 의도로 덮어씀
+     * 2. 새 key인데 버퍼가 가득 찼으면 기록하지 않고 false 반환 (호출한 쪽에서 바로 DB에 반영)
+     * - 크기 확인과 추가가 원자적이지 않아서 동시에 들어온 요청 수만큼은 넘을 수 있음
+     *
+     * @param postId
+     * @param userId
+     * @param liked
+     * @return 버퍼에 기록했으면 true
+     */
+    public boolean record(int postId, int userId, boolean liked) {
+        long key = toKey(postId, userId);
+
+        if (intents.size() >= getMaxSize() && !intents.containsKey(key)) {
+            overflows.increment();
+            return false;
+        }
+
+        intents.put(key, liked);
+        return true;
+    }
+
+    /**
+     * 해당 유저의 아직 반영되지 않은 좋아요 의도 반환하는 메서드
+     *
+     * @param postId
+     * @param userId
+     * @return 버퍼에 없으면 null
+     */
+    public Boolean pendingIntent(int postId, int userId) {
+        return intents.get(toKey(postId, userId));
+    }
+
+    /**
+     * 현재 버퍼 내용을 복사해서 반환하는 메서드
+     * 버퍼는 비우지 않음 (반영 후 release로 제거)
+     *
+     * @return
+     */
+    public Map<Long, Boolean> snapshot() {
+        return new HashMap<>(intents);
+    }
+
+    /**
+     * DB에 반영된 의도 제거하는 메서드
+     * 반영 이후 값이 바뀌었으면 남겨둠
+     *
+     * @param key
+     * @param liked
+     */
+    public void release(long key, boolean liked) {
+        intents.remove(key, liked);
+    }
+
+    public int size() {
+        return intents.size();
+    }
+
+    public int getMaxSize() {
+        return property.getWriteBehind().getMaxBufferSize();
+    }
+
+    public long getOverflowCount() {
+        return overflows.sum();
+    }
+
+    public static long toKey(int postId, int userId) {
+        return ((long) postId << 32) | (userId & 0xFFFFFFFFL);
+    }
+
+    public static int postIdOf(long key) {
+        return (int) (key >>> 32);
+    }
+
+    public static int userIdOf(long key) {
+        return (int) key;
+    }
+
+}
@@ -5,12 +5,12 @@ import boot.kakaotech.communitybe.common.exception.ErrorCode;
 import boot.kakaotech.communitybe.user.entity.User;
 import org.springframework.stereotype.Component;
 
-import java.nio.file.attribute.UserPrincipalNotFoundException;
+import java.util.function.IntFunction;
 
 @Component
 public class ThreadLocalContext {
 
-    private static final ThreadLocal<User> threadLocal = new ThreadLocal<>();
+    private static final ThreadLocal<Principal> threadLocal = new ThreadLocal<>();
 
     /**
      * ThreadLocal 내 유저 세팅하는 메서드
@@ -18,7 +18,18 @@ public class ThreadLocalContext {
      * @param user
      */
     public void set(User user) {
-        threadLocal.set(user);
+        threadLocal.set(new Principal(user.getId(), user, null));
+    }
+
+    /**
+     * ThreadLocal 내 유저 id만 세팅하는 메서드 (claims-only 모드)
+     * - User는 getCurrentUser()가 처음 호출될 때 loader로 가져옴
+     *
+     * @param userId
+     * @param loader
+     */
+    public void setUserId(int userId, IntFunction<User> loader) {
+        threadLocal.set(new Principal(userId, null, loader));
     }
 
     /**
@@ -30,34 +41,67 @@ public class ThreadLocalContext {
 
     /**
      * 현재 요청을 보낸 유저의 id를 반환하는 메서드
-     * 1. ThreadLocal에 저장된 User 조회
+     * 1. ThreadLocal에 저장된 인증정보 조회
      * 2. 인증정보가 저장이 안 되어있으면 throw error
      *
      * @return
      */
     public Integer getCurrentUserId() {
-        User user = threadLocal.get();
-        if (user == null) {
+        Principal principal = threadLocal.get();
+        if (principal == null) {
             throw new BusinessException(ErrorCode.UNAUTHORIZED_REQUEST);
         }
 
-        return user.getId();
+        return principal.userId;
+    }
+
+    /**
+     * 현재 요청을 보낸 유저의 id를 반환하는 메서드
+     * 인증정보가 없는 요청(비로그인, 인증 제외 경로)이면 null 반환
+     *
+     * @return
+     */
+    public Integer findCurrentUserId() {
+        Principal principal = threadLocal.get();
+        return principal == null ? null : principal.userId;
     }
 
     /**
      * 현재 요청을 보낸 유저 객체를 반환하는 메서드
-     * 1. ThreadLocal에 저장된 User 조회
+     * 1. ThreadLocal에 저장된 인증정보 조회
      * 2. 인증정보가 저장이 안 되어있으면 throw error
+     * 3. claims-only 모드면 이때 유저를 가져오고, 없는 유저면 throw error
      *
      * @return
      */
     public User getCurrentUser() {
-        User user = threadLocal.get();
-        if (user == null) {
+        Principal principal = threadLocal.get();
+        if (principal == null) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED_REQUEST);
+        }
+
+        if (principal.user == null) {
+            principal.user = principal.loader.apply(principal.userId);
+        }
+        if (principal.user == null) {
             throw new BusinessException(ErrorCode.UNAUTHORIZED_REQUEST);
         }
 
-        return user;
+        return principal.user;
+    }
+
+    private static class Principal {
+
+        private final int userId;
+        private User user;
+        private final IntFunction<User> loader;
+
+        private Principal(int userId, User user, IntFunction<User> loader) {
+            this.userId = userId;
+            this.user = user;
+            this.loader = loader;
+        }
+
     }
 
-}
\ No newline at end of file
+}
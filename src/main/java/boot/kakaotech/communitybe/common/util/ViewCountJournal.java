@@ -0,0 +1,325 @@
+package boot.kakaotech.communitybe.common.util;
+
+import boot.kakaotech.communitybe.common.properties.ViewCountProperty;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 아직 DB에 반영되지 않은 조회수 증가분을 로컬 파일에 남기는 append-only 저널
+ * - ViewCountStore 버퍼 하나당 segment 파일 하나, 버퍼가 DB에 반영되면 segment 삭제
+ * - 레코드는 (postId int, delta int) 8바이트, 위치만 원자적으로 예약하고 mmap 버퍼에 락 없이 기록
+ * - fsync는 레코드마다 하지 않고 주기적으로 모아서 수행 (group commit)
+ * - 프로세스가 죽어도 mmap에 쓴 내용은 page cache에 남으므로, 유실 범위는 OS 장애 시 마지막 force 이후뿐
+ * - segment key(저널 id + 파일 이름)는 DB의 반영 기록(view_count_flush_log)과 segment를 연결하는 값으로,
+ *   저널 id는 디렉토리에 한 번 만들어 두고 재시작 후에도 그대로 사용
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ViewCountJournal {
+
+    private static final String SEGMENT_PREFIX = "views-";
+    private static final String SEGMENT_SUFFIX = ".wal";
+    private static final String JOURNAL_ID_FILE = "journal.id";
+    private static final int RECORD_BYTES = 8;
+
+    private static final MethodHandle INVOKE_CLEANER = findInvokeCleaner();
+
+    private final ViewCountProperty property;
+
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    private volatile String journalId;
+
+    public boolean isEnabled() {
+        return property.getJournal().isEnabled();
+    }
+
+    /**
+     * 저널 디렉토리에 남아있는 segment 목록 반환하는 메서드
+     *
+     * @return
+     */
+    public List<Path> listSegments() {
+        Path directory = directory();
+
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(path -> path.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                    .filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 새 segment 파일 만들고 mmap하는 메서드
+     *
+     * @return
+     */
+    public Segment openSegment() {
+        int segmentSize = property.getJournal().getSegmentSizeBytes();
+        String fileName = SEGMENT_PREFIX + System.currentTimeMillis() + "-" + sequence.incrementAndGet() + SEGMENT_SUFFIX;
+        Path path = directory().resolve(fileName);
+
+        try (FileChannel channel = FileChannel.open(
+                path,
+                StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE
+        )) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+            return new Segment(path, segmentKey(path), buffer, segmentSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 이전 프로세스가 남긴 segment를 기록 없이 정리용으로만 여는 메서드 (mmap하지 않음)
+     *
+     * @param path
+     * @return
+     */
+    public Segment existingSegment(Path path) {
+        return new Segment(path, segmentKey(path), null, 0);
+    }
+
+    /**
+     * segment 하나의 레코드를 게시글별로 합산하는 메서드
+     * - 0으로 채워진 미사용 영역과 덜 쓰인 레코드는 건너뜀
+     *
+     * @param segment
+     * @return postId -> delta
+     */
+    public Map<Integer, Long> readSegment(Path segment) {
+        Map<Integer, Long> deltas = new HashMap<>();
+
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            while (buffer.remaining() >= RECORD_BYTES) {
+                int postId = buffer.getInt();
+                int delta = buffer.getInt();
+
+                if (postId == 0 || delta == 0) {
+                    continue;
+                }
+
+                deltas.merge(postId, (long) delta, Long::sum);
+            }
+
+            unmap(buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return deltas;
+    }
+
+    /**
+     * segment의 mmap을 해제하고 파일을 삭제하는 메서드
+     * - 해제하지 않으면 파일을 지워도 GC 전까지 매핑된 page가 주소 공간과 디스크를 계속 차지
+     *
+     * @param segment
+     */
+    public void deleteSegment(Segment segment) {
+        segment.close();
+
+        try {
+            Files.deleteIfExists(segment.getPath());
+        } catch (IOException e) {
+            log.warn("[ViewCountJournal] segment 삭제 실패 - {} - {}", segment.getPath(), e.getMessage());
+        }
+    }
+
+    private String segmentKey(Path path) {
+        return journalId() + "/" + path.getFileName();
+    }
+
+    /**
+     * 저널 디렉토리의 id 반환하는 메서드
+     * - 없으면 새로 만들어 파일로 남기고, 동시에 만들어진 경우 먼저 쓴 값을 사용
+     *
+     * @return
+     */
+    private String journalId() {
+        String id = journalId;
+        if (id != null) {
+            return id;
+        }
+
+        synchronized (this) {
+            if (journalId != null) {
+                return journalId;
+            }
+
+            Path file = directory().resolve(JOURNAL_ID_FILE);
+            try {
+                try {
+                    Files.writeString(file, UUID.randomUUID().toString(), StandardCharsets.UTF_8, StandardOpenOption.CREATE_NEW);
+                } catch (FileAlreadyExistsException ignored) {
+                    // 이전 프로세스가 만든 id를 그대로 사용
+                }
+                journalId = Files.readString(file, StandardCharsets.UTF_8).trim();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            return journalId;
+        }
+    }
+
+    private Path directory() {
+        Path directory = Path.of(property.getJournal().getDirectory());
+
+        try {
+            return Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * mmap 즉시 해제하는 메서드 (sun.misc.Unsafe.invokeCleaner)
+     * - 해제 후 버퍼에 접근하면 JVM이 죽으므로 더 이상 쓰는 스레드가 없을 때만 호출
+     * - 사용할 수 없는 JVM이면 GC가 정리하도록 둠
+     *
+     * @param buffer
+     */
+    private static void unmap(MappedByteBuffer buffer) {
+        if (INVOKE_CLEANER == null) {
+            return;
+        }
+
+        try {
+            INVOKE_CLEANER.invoke(buffer);
+        } catch (Throwable e) {
+            log.warn("[ViewCountJournal] mmap 해제 실패 - {}", e.getMessage());
+        }
+    }
+
+    private static MethodHandle findInvokeCleaner() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+
+            return MethodHandles.lookup()
+                    .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                    .bindTo(theUnsafe.get(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.warn("[ViewCountJournal] mmap 즉시 해제 불가, GC에 맡김 - {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * mmap된 segment 파일 하나
+     * - append는 여러 스레드가 동시에 호출 가능 (예약된 위치가 겹치지 않으므로 절대 위치 put만 사용)
+     * - force와 close는 서로 겹치지 않도록 동기화 (해제된 매핑에 force하면 JVM이 죽음)
+     */
+    public static class Segment {
+
+        private final Path path;
+        private final String key;
+        private final MappedByteBuffer buffer;
+        private final int capacity;
+        private final AtomicLong position = new AtomicLong();
+        private boolean closed;
+
+        private Segment(Path path, String key, MappedByteBuffer buffer, int capacity) {
+            this.path = path;
+            this.key = key;
+            this.buffer = buffer;
+            this.capacity = capacity;
+        }
+
+        public Path getPath() {
+            return path;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        /**
+         * 레코드 기록하는 메서드
+         * - int 범위를 넘는 delta는 여러 레코드로 나눠 기록하고, 필요한 자리는 한 번에 예약
+         * - 남은 자리가 모자라면 아무것도 쓰지 않고 false 반환 (호출자는 새 segment로 교체 후 재시도)
+         *
+         * @param postId
+         * @param delta
+         * @return
+         */
+        public boolean append(int postId, long delta) {
+            long records = (Math.abs(delta) + Integer.MAX_VALUE - 1) / Integer.MAX_VALUE;
+            long offset = position.getAndAdd(records * RECORD_BYTES);
+
+            if (buffer == null || offset + records * RECORD_BYTES > capacity) {
+                return false;
+            }
+
+            long remaining = delta;
+            while (remaining != 0) {
+                int part = (int) Math.max(-Integer.MAX_VALUE, Math.min(Integer.MAX_VALUE, remaining));
+
+                buffer.putInt((int) offset + 4, part);
+                buffer.putInt((int) offset, postId);
+                offset += RECORD_BYTES;
+                remaining -= part;
+            }
+
+            return true;
+        }
+
+        /**
+         * 지금까지 기록된 영역을 디스크에 동기화하는 메서드
+         */
+        public synchronized void force() {
+            int end = (int) Math.min(position.get(), capacity);
+
+            if (!closed && buffer != null && end > 0) {
+                buffer.force(0, end);
+            }
+        }
+
+        private synchronized void close() {
+            if (closed) {
+                return;
+            }
+
+            closed = true;
+            if (buffer != null) {
+                unmap(buffer);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,300 @@
+package boot.kakaotech.communitybe.common.util;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글별 아직 DB에 반영되지 않은 조회수 증가분(delta) 저장소
+ * - postId(int) -> LongAdder 로 보관해서 같은 게시글을 동시에 조회해도 증가분이 유실되지 않음
+ * - drain()은 새 버퍼로 교체한 뒤 이전 버퍼에 쓰던 스레드가 모두 빠져나가길 기다렸다가 합산
+ *   (교체 직후 들어온 증가분은 새 버퍼에 쌓이므로 drain과 증가가 서로를 막지 않음)
+ * - 버퍼마다 ViewCountJournal segment를 하나씩 두고 증가분을 같이 기록, segment가 가득 차면 새 버퍼로 교체하고
+ *   가득 찬 버퍼는 다음 drain 때 따로 스냅샷으로 내보냄
+ * - 스냅샷 하나는 항상 segment 하나와 짝을 이루고, segment는 스냅샷 전체가 DB에 반영된 뒤에만 삭제
+ *   (반영에 실패한 나머지는 다른 segment로 옮기지 않고 retry로 돌려받아 같은 segment로 다시 시도)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ViewCountStore {
+
+    private final ViewCountJournal journal;
+
+    private final AtomicReference<Buffer> current = new AtomicReference<>();
+    private final Object swapLock = new Object();
+    private final List<Buffer> sealed = new CopyOnWriteArrayList<>();
+    private final Queue<Snapshot> retrying = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 시작 시 이전 프로세스가 남긴 저널 복구하는 메서드
+     * 1. 남아있는 segment 목록 확보 후 새 segment로 버퍼 생성
+     * 2. 이전 segment는 다시 기록하지 않고 각각 복구 스냅샷으로 만들어 다음 drain에 포함
+     *    (이미 DB에 반영된 부분은 flush하는 쪽에서 view_count_flush_log를 보고 제외)
+     */
+    @PostConstruct
+    public void recover() {
+        if (!journal.isEnabled()) {
+            current.set(new Buffer(null));
+            return;
+        }
+
+        List<Path> previous = journal.listSegments();
+        current.set(new Buffer(openSegment()));
+
+        if (previous.isEmpty()) {
+            return;
+        }
+
+        for (Path path : previous) {
+            retrying.add(new Snapshot(journal.readSegment(path), journal.existingSegment(path), true));
+        }
+
+        log.info("[ViewCountStore] 조회수 저널 복구 대기 - segments: {}", previous.size());
+    }
+
+    public void increment(int postId) {
+        add(postId, 1);
+    }
+
+    /**
+     * 게시글 조회수 증가분 더하는 메서드
+     * 1. 현재 버퍼에 진입 표시
+     * 2. 그 사이 drain이나 segment 교체로 버퍼가 바뀌었으면 진입 취소 후 새 버퍼로 재시도
+     * 3. 저널에 기록 후 게시글별 LongAdder에 delta 추가
+     * 4. segment가 가득 차서 기록하지 못했으면 새 segment로 교체 후 재시도
+     *
+     * @param postId
+     * @param delta
+     */
+    public void add(int postId, long delta) {
+        while (true) {
+            Buffer buffer = current.get();
+            int stripe = buffer.enter();
+
+            try {
+                if (current.get() != buffer) {
+                    continue;
+                }
+
+                if (buffer.segment == null || buffer.segment.append(postId, delta)) {
+                    buffer.counters.computeIfAbsent(postId, id -> new LongAdder()).add(delta);
+                    return;
+                }
+            } finally {
+                buffer.exit(stripe);
+            }
+
+            rollOver(buffer);
+        }
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 게시글 조회수 증가분 반환하는 메서드
+     * - 복구 스냅샷은 이미 반영된 부분이 섞여 있을 수 있어 제외
+     *
+     * @param postId
+     * @return
+     */
+    public long get(int postId) {
+        long pending = current.get().sum(postId);
+
+        for (Buffer buffer : sealed) {
+            pending += buffer.sum(postId);
+        }
+        for (Snapshot snapshot : retrying) {
+            if (!snapshot.recovered()) {
+                pending += snapshot.deltas().getOrDefault(postId, 0L);
+            }
+        }
+
+        return pending;
+    }
+
+    /**
+     * 지금까지 쌓인 증가분을 스냅샷으로 꺼내는 메서드
+     * 1. retry로 돌려받은 스냅샷과 복구 스냅샷
+     * 2. segment가 가득 차서 교체된 버퍼들
+     * 3. 쌓인 게 있으면 현재 버퍼를 새 버퍼(새 segment)로 교체
+     * 4. 꺼낸 버퍼마다 쓰는 중인 스레드가 없어질 때까지 기다린 뒤 segment를 동기화하고 합계를 스냅샷으로 반환
+     * 스냅샷마다 DB 반영이 끝나면 release(), 일부가 실패하면 남은 증가분으로 retry()를 호출해야 함
+     *
+     * @return
+     */
+    public List<Snapshot> drain() {
+        List<Snapshot> snapshots = new ArrayList<>();
+        Snapshot retry;
+        while ((retry = retrying.poll()) != null) {
+            snapshots.add(retry);
+        }
+
+        List<Buffer> drained;
+        synchronized (swapLock) {
+            drained = new ArrayList<>(sealed);
+            sealed.removeAll(drained);
+
+            if (!current.get().counters.isEmpty()) {
+                drained.add(current.getAndSet(new Buffer(journal.isEnabled() ? openSegment() : null)));
+            }
+        }
+
+        for (Buffer buffer : drained) {
+            buffer.awaitQuiescence();
+            if (buffer.segment != null) {
+                buffer.segment.force();
+            }
+            snapshots.add(new Snapshot(buffer.totals(), buffer.segment, false));
+        }
+
+        return snapshots;
+    }
+
+    /**
+     * 전부 DB에 반영된 스냅샷의 segment 정리하는 메서드
+     *
+     * @param snapshot
+     */
+    public void release(Snapshot snapshot) {
+        if (snapshot.segment() == null) {
+            return;
+        }
+
+        journal.deleteSegment(snapshot.segment());
+    }
+
+    /**
+     * 반영하지 못한 증가분을 다음 drain에서 다시 꺼내도록 돌려놓는 메서드
+     * - segment는 그대로 유지되므로 그 사이 재시작해도 같은 segment에서 복구
+     *
+     * @param snapshot
+     */
+    public void retry(Snapshot snapshot) {
+        retrying.add(snapshot);
+    }
+
+    /**
+     * 현재 segment에 기록된 내용을 디스크에 동기화하는 메서드 (group commit)
+     */
+    public void force() {
+        Buffer buffer = current.get();
+
+        if (buffer != null && buffer.segment != null) {
+            buffer.segment.force();
+        }
+    }
+
+    /**
+     * 가득 찬 버퍼를 새 segment 버퍼로 교체하는 메서드
+     * - 여러 스레드가 동시에 가득 찬 걸 발견해도 한 번만 교체
+     *
+     * @param full
+     */
+    private void rollOver(Buffer full) {
+        synchronized (swapLock) {
+            if (current.get() != full) {
+                return;
+            }
+
+            sealed.add(full);
+            current.set(new Buffer(openSegment()));
+        }
+
+        log.info("[ViewCountStore] segment 용량 초과, 새 segment로 교체 - {}", full.segment.getPath());
+    }
+
+    private ViewCountJournal.Segment openSegment() {
+        try {
+            return journal.openSegment();
+        } catch (UncheckedIOException e) {
+            log.error("[ViewCountStore] 저널 segment 생성 실패, 메모리에만 누적 - {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * drain된 증가분과 그 증가분이 기록된 segment
+     * - recovered는 이전 프로세스가 남긴 segment에서 읽은 스냅샷 (DB 반영 기록과 대조 필요)
+     */
+    public record Snapshot(Map<Integer, Long> deltas, ViewCountJournal.Segment segment, boolean recovered) {
+
+        /**
+         * 같은 segment에 남은 증가분만 담은 스냅샷 만드는 메서드
+         *
+         * @param remaining
+         * @return
+         */
+        public Snapshot withDeltas(Map<Integer, Long> remaining) {
+            return new Snapshot(remaining, segment, false);
+        }
+
+    }
+
+    /**
+     * 증가분 맵, 저널 segment, 이 버퍼에 쓰는 중인 스레드 수를 스트라이프별로 나눠 센 카운터
+     * - 스트라이프 사이를 PADDING 만큼 띄워 서로 다른 캐시 라인에 두어 false sharing 방지
+     */
+    private static class Buffer {
+
+        private static final int STRIPES = 64;
+        private static final int PADDING = 16;
+
+        private final ConcurrentHashMap<Integer, LongAdder> counters = new ConcurrentHashMap<>();
+        private final AtomicIntegerArray writers = new AtomicIntegerArray(STRIPES * PADDING);
+        private final ViewCountJournal.Segment segment;
+
+        private Buffer(ViewCountJournal.Segment segment) {
+            this.segment = segment;
+        }
+
+        private int enter() {
+            int stripe = ((int) Thread.currentThread().threadId() & (STRIPES - 1)) * PADDING;
+            writers.incrementAndGet(stripe);
+            return stripe;
+        }
+
+        private void exit(int stripe) {
+            writers.decrementAndGet(stripe);
+        }
+
+        private long sum(int postId) {
+            LongAdder adder = counters.get(postId);
+            return adder == null ? 0 : adder.sum();
+        }
+
+        private Map<Integer, Long> totals() {
+            Map<Integer, Long> deltas = new HashMap<>(counters.size());
+            counters.forEach((postId, adder) -> {
+                long delta = adder.sum();
+                if (delta != 0) {
+                    deltas.put(postId, delta);
+                }
+            });
+            return deltas;
+        }
+
+        private void awaitQuiescence() {
+            for (int stripe = 0; stripe < STRIPES * PADDING; stripe += PADDING) {
+                while (writers.get(stripe) != 0) {
+                    Thread.onSpinWait();
+                }
+            }
+        }
+
+    }
+
+}
@@ -3,15 +3,13 @@ package boot.kakaotech.communitybe.common.validation;
 import boot.kakaotech.communitybe.auth.dto.LoginRequest;
 import boot.kakaotech.communitybe.auth.dto.SignupRequest;
 import boot.kakaotech.communitybe.comment.entity.Comment;
-import boot.kakaotech.communitybe.comment.repository.CommentRepository;
 import boot.kakaotech.communitybe.common.encoder.PasswordEncoder;
 import boot.kakaotech.communitybe.common.exception.BusinessException;
 import boot.kakaotech.communitybe.common.exception.ErrorCode;
+import boot.kakaotech.communitybe.common.persistence.RequestEntityCache;
 import boot.kakaotech.communitybe.post.entity.Post;
-import boot.kakaotech.communitybe.post.repository.PostRepository;
 import boot.kakaotech.communitybe.user.dto.PasswordDto;
 import boot.kakaotech.communitybe.user.entity.User;
-import boot.kakaotech.communitybe.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -22,9 +20,7 @@ import org.springframework.stereotype.Component;
 public class Validator {
 
     private final PasswordEncoder passwordEncoder;
-    private final PostRepository postRepository;
-    private final CommentRepository commentRepository;
-    private final UserRepository userRepository;
+    private final RequestEntityCache entityCache;
 
     /**
      * 이메일과 패스워드 validation하는 메서드
@@ -128,7 +124,7 @@ public class Validator {
      * @return
      */
     public Post validatePostByIdAndReturn(Integer postId) {
-        Post post = postRepository.findById(postId).orElse(null);
+        Post post = entityCache.find(Post.class, postId);
 
         if (post == null) {
             throw new BusinessException(ErrorCode.ILLEGAL_ARGUMENT);
@@ -164,7 +160,7 @@ public class Validator {
      * @return
      */
     public Comment validateCommentByIdAndReturn(Integer commentId, User user) {
-        Comment comment = commentRepository.findById(commentId).orElse(null);
+        Comment comment = entityCache.find(Comment.class, commentId);
         if (comment == null) {
             throw new BusinessException(ErrorCode.ILLEGAL_ARGUMENT);
         }
@@ -193,7 +189,7 @@ public class Validator {
      * @return
      */
     public User validateUserInfo(User requestUser, Integer userId) {
-        User user = userRepository.findById(userId).orElse(null);
+        User user = entityCache.find(User.class, userId);
         if (user == null) {
             throw new BusinessException(ErrorCode.ILLEGAL_ARGUMENT);
         }
@@ -213,7 +209,7 @@ public class Validator {
      * @return
      */
     public User validateNewPassword(User requestUser, PasswordDto dto) {
-        User user = userRepository.findById(dto.getUserId()).orElse(null);
+        User user = entityCache.find(User.class, dto.getUserId());
         if (user == null) {
             throw new BusinessException(ErrorCode.ILLEGAL_ARGUMENT);
         }
@@ -2,8 +2,10 @@ package boot.kakaotech.communitybe.post.controller;
 
 import boot.kakaotech.communitybe.common.CommonResponseDto;
 import boot.kakaotech.communitybe.common.CommonResponseMapper;
+import boot.kakaotech.communitybe.common.scroll.PagingMode;
 import boot.kakaotech.communitybe.common.scroll.dto.CursorPage;
 import boot.kakaotech.communitybe.post.dto.CreatePostDto;
+import boot.kakaotech.communitybe.post.dto.LikeStateDto;
 import boot.kakaotech.communitybe.post.dto.PostDetailWrapper;
 import boot.kakaotech.communitybe.post.dto.PostListWrapper;
 import boot.kakaotech.communitybe.post.dto.SavedPostDto;
@@ -26,19 +28,23 @@ public class PostController {
 
     /**
      * 게시글 목록 조회 API
+     * - 기본은 cursor를 페이지 번호로 사용하는 기존 방식 (기존 클라이언트 호환)
+     * - mode=KEYSET이면 cursor는 직전 응답의 nextCursor(마지막 게시글 id)
      *
      * @param cursor
      * @param size
+     * @param mode
      * @return
      */
     @GetMapping
     public ResponseEntity<CommonResponseDto<CursorPage<PostListWrapper>>> getPosts(
-            @RequestParam Integer cursor,
-            @RequestParam Integer size
+            @RequestParam(required = false) Integer cursor,
+            @RequestParam Integer size,
+            @RequestParam(defaultValue = "OFFSET") PagingMode mode
     ) {
-        log.info("[PostController] 게시글 목록 조회 시작");
+        log.info("[PostController] 게시글 목록 조회 시작 - mode: {}", mode);
 
-        CursorPage<PostListWrapper> posts = postService.getPosts(cursor, size);
+        CursorPage<PostListWrapper> posts = postService.getPosts(cursor, size, mode);
         CommonResponseDto<CursorPage<PostListWrapper>> response = responseMapper.createResponse(
                 posts,
                 "게시글 목록 조회 성공"
@@ -134,18 +140,20 @@ public class PostController {
 
     /**
      * 게시글 좋아요 API
+     * - 이미 눌렀어도 성공, 응답으로 요청 후 상태 반환
      *
      * @param postId
      * @return
      */
     @PostMapping("/{postId}/likes")
-    public ResponseEntity<CommonResponseDto<Void>> likePost(
+    public ResponseEntity<CommonResponseDto<LikeStateDto>> likePost(
             @PathVariable Integer postId
     ) {
         log.info("[PostController] 좋아요 시작 - postId: {}", postId);
 
-        postService.likePost(postId);
-        CommonResponseDto<Void> response = responseMapper.createResponse(
+        LikeStateDto res = postService.likePost(postId);
+        CommonResponseDto<LikeStateDto> response = responseMapper.createResponse(
+                res,
                 "게시글 좋아요 성공"
         );
         return ResponseEntity.ok(response);
@@ -153,19 +161,21 @@ public class PostController {
 
     /**
      * 게시글 좋아요 취소
+     * - 안 눌려있어도 성공, 응답으로 요청 후 상태 반환
      *
      * @param postId
      * @return
      */
     @DeleteMapping("/{postId}/likes")
-    public ResponseEntity<CommonResponseDto<Void>> unlikePost(
+    public ResponseEntity<CommonResponseDto<LikeStateDto>> unlikePost(
             @PathVariable Integer postId
     ) {
         log.info("[PostController] 게시글 좋아요 취소 요청 - postId: {}", postId);
 
-        postService.unlikePost(postId);
+        LikeStateDto res = postService.unlikePost(postId);
 
-        CommonResponseDto<Void> response = responseMapper.createResponse(
+        CommonResponseDto<LikeStateDto> response = responseMapper.createResponse(
+                res,
                 "게시글 좋아요 취소 성공"
         );
         return ResponseEntity.ok(response);
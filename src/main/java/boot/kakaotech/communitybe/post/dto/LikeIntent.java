@@ -0,0 +1,10 @@
+package boot.kakaotech.communitybe.post.dto;
+
+/**
+ * write-behind 버퍼에서 DB로 반영할 좋아요 의도
+ *
+ * @param postId
+ * @param userId
+ * @param liked true면 좋아요, false면 취소
+ */
+public record LikeIntent(int postId, int userId, boolean liked) {}
@@ -0,0 +1,18 @@
+package boot.kakaotech.communitybe.post.dto;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * write-behind 좋아요 의도를 DB에 반영한 결과
+ *
+ * @param applied 실제로 post_like row를 바꾼 의도 (이미 같은 상태였거나 삭제된 게시글이라 무시된 의도는 제외)
+ * @param unknownUserIds 드라이버가 결과를 알려주지 않아(SUCCESS_NO_INFO) 반영 여부를 모르는 유저
+ */
+public record LikeIntentResult(List<LikeIntent> applied, Set<Integer> unknownUserIds) {
+
+    public int changedRows() {
+        return applied.size();
+    }
+
+}
@@ -0,0 +1,18 @@
+package boot.kakaotech.communitybe.post.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LikeStateDto {
+
+    private Integer postId;
+
+    private boolean liked;
+
+}
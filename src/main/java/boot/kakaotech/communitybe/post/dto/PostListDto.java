@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 
 import java.time.LocalDateTime;
 
@@ -17,12 +18,18 @@ public class PostListDto {
 
     private String title;
 
+    private String excerpt;
+
+    @Setter
     private long likeCount;
 
     private long commentCount;
 
     private int viewCount;
 
+    @Setter
+    private boolean liked; // 요청한 유저가 좋아요 눌렀는지, LikedPostIndex에서 채움
+
     private LocalDateTime createdAt;
 
 }
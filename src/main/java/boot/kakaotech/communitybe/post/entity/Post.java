@@ -28,12 +28,18 @@ public class Post {
     @Column(length = 30, nullable = false)
     private String title;
 
-    @Column(columnDefinition = "LONGTEXT")
-    private String content;
+    @Column(length = 200)
+    private String excerpt; // 목록 카드용 본문 앞부분, 본문은 post_content에 따로 저장 (PostContentStore)
 
     @Column(nullable = false)
     private int viewCount;
 
+    @Column(nullable = false)
+    private long likeCount;
+
+    @Column(nullable = false)
+    private long commentCount;
+
     @Column(columnDefinition = "TIMESTAMP", nullable = false)
     private LocalDateTime createdAt;
 
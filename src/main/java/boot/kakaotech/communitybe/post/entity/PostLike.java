@@ -10,7 +10,10 @@ import lombok.*;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "post_like")
+@Table(
+        name = "post_like",
+        uniqueConstraints = @UniqueConstraint(name = "uk_post_like_post_user", columnNames = {"post_id", "user_id"})
+)
 public class PostLike {
 
     @Id
@@ -0,0 +1,232 @@
+package boot.kakaotech.communitybe.post.index;
+
+import boot.kakaotech.communitybe.common.properties.LikeProperty;
+import boot.kakaotech.communitybe.common.util.CompactIntSet;
+import boot.kakaotech.communitybe.post.repository.PostLikeRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 유저별로 좋아요 누른 게시글 id를 CompactIntSet으로 들고 있는 인덱스
+ * - 상세/목록의 "내가 좋아요 눌렀는지"를 SQL 없이 판단
+ * - 처음 조회할 때 post_like에서 한 번 읽어 채우고, 이후에는 좋아요/취소가 커밋될 때 갱신
+ * - 전체 메모리가 like.index.memory-budget-bytes를 넘으면 가장 오래 안 쓴 유저부터 제거 (LRU)
+ * - 로딩 중에 같은 유저의 좋아요가 바뀌면 읽은 결과가 이미 낡았을 수 있으므로,
+ *   user id로 나눈 stripe마다 변경 횟수를 세고 로딩 전후 값이 다르면 캐시에 넣지 않음
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LikedPostIndex {
+
+    private static final int STRIPES = 64;
+
+    private final PostLikeRepository postLikeRepository;
+
+    private final LikeProperty property;
+
+    private final MeterRegistry meterRegistry;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<Integer, CompactIntSet> sets = new LinkedHashMap<>(16, 0.75f, true);
+    private final AtomicLongArray mutations = new AtomicLongArray(STRIPES);
+    private long memoryBytes;
+
+    @PostConstruct
+    private void registerMetrics() {
+        Gauge.builder("like.index.users", this, index -> index.sets.size())
+                .register(meterRegistry);
+        Gauge.builder("like.index.memory", this, index -> index.memoryBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 유저가 게시글에 좋아요를 눌렀는지 확인하는 메서드
+     *
+     * @param userId
+     * @param postId
+     * @return
+     */
+    public boolean isLiked(int userId, int postId) {
+        return !likedAmong(userId, List.of(postId)).isEmpty();
+    }
+
+    /**
+     * postIds 중 유저가 좋아요를 누른 게시글 id만 골라 반환하는 메서드
+     *
+     * @param userId
+     * @param postIds
+     * @return
+     */
+    public Set<Integer> likedAmong(int userId, Collection<Integer> postIds) {
+        Set<Integer> liked = new HashSet<>();
+
+        lock.lock();
+        try {
+            CompactIntSet set = sets.get(userId);
+            if (set != null) {
+                meterRegistry.counter("like.index.requests", "result", "hit").increment();
+                collect(set, postIds, liked);
+                return liked;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        meterRegistry.counter("like.index.requests", "result", "miss").increment();
+        CompactIntSet loaded = load(userId);
+
+        lock.lock();
+        try {
+            collect(loaded, postIds, liked);
+        } finally {
+            lock.unlock();
+        }
+
+        return liked;
+    }
+
+    /**
+     * 좋아요/취소가 커밋된 뒤 인덱스에 반영하는 메서드
+     * - 트랜잭션 안이면 커밋 이후에 반영 (롤백되면 반영하지 않음)
+     * - 캐시에 없는 유저면 다음 조회 때 DB에서 새로 읽으므로 변경 횟수만 올림
+     *
+     * @param userId
+     * @param postId
+     * @param liked
+     */
+    public void update(int userId, int postId, boolean liked) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(userId, postId, liked);
+                }
+            });
+            return;
+        }
+
+        apply(userId, postId, liked);
+    }
+
+    /**
+     * 유저의 캐시를 버리는 메서드 (다음 조회 때 DB에서 다시 읽음)
+     * - DB 반영 여부를 알 수 없는 변경이 있었을 때 사용
+     * - 변경 횟수도 올려서 지금 로딩 중인 결과가 캐시에 들어가지 않게 함
+     *
+     * @param userId
+     */
+    public void invalidate(int userId) {
+        lock.lock();
+        try {
+            mutations.incrementAndGet(stripe(userId));
+
+            CompactIntSet removed = sets.remove(userId);
+            if (removed != null) {
+                memoryBytes -= removed.memoryBytes();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void apply(int userId, int postId, boolean liked) {
+        lock.lock();
+        try {
+            mutations.incrementAndGet(stripe(userId));
+
+            CompactIntSet set = sets.get(userId);
+            if (set == null) {
+                return;
+            }
+
+            memoryBytes -= set.memoryBytes();
+            if (liked) {
+                set.add(postId);
+            } else {
+                set.remove(postId);
+            }
+            memoryBytes += set.memoryBytes();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * post_like에서 유저의 좋아요 목록을 읽어 캐시에 넣는 메서드
+     * 1. 읽기 전 stripe 변경 횟수 기록
+     * 2. DB 조회 (락 밖에서)
+     * 3. 변경 횟수가 그대로면 캐시에 넣고 메모리 예산을 넘은 만큼 LRU 제거
+     *
+     * @param userId
+     * @return
+     */
+    private CompactIntSet load(int userId) {
+        long version = mutations.get(stripe(userId));
+
+        CompactIntSet set = new CompactIntSet();
+        postLikeRepository.findPostIdsByUserId(userId).forEach(set::add);
+
+        lock.lock();
+        try {
+            CompactIntSet existing = sets.get(userId);
+            if (existing != null) {
+                return existing;
+            }
+
+            if (mutations.get(stripe(userId)) != version) {
+                log.debug("[LikedPostIndex] 로딩 중 변경 발생, 캐시하지 않음 - userId: {}", userId);
+                return set;
+            }
+
+            sets.put(userId, set);
+            memoryBytes += set.memoryBytes();
+            evictOverBudget();
+        } finally {
+            lock.unlock();
+        }
+
+        return set;
+    }
+
+    private void evictOverBudget() {
+        long budget = property.getIndex().getMemoryBudgetBytes();
+        Iterator<Map.Entry<Integer, CompactIntSet>> eldest = sets.entrySet().iterator();
+
+        while (memoryBytes > budget && sets.size() > 1 && eldest.hasNext()) {
+            memoryBytes -= eldest.next().getValue().memoryBytes();
+            eldest.remove();
+            meterRegistry.counter("like.index.evictions").increment();
+        }
+    }
+
+    private static void collect(CompactIntSet set, Collection<Integer> postIds, Set<Integer> liked) {
+        for (Integer postId : postIds) {
+            if (postId != null && set.contains(postId)) {
+                liked.add(postId);
+            }
+        }
+    }
+
+    private static int stripe(int userId) {
+        return Math.floorMod(userId, STRIPES);
+    }
+
+}
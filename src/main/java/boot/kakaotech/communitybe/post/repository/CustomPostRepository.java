@@ -1,19 +1,39 @@
 package boot.kakaotech.communitybe.post.repository;
 
+import boot.kakaotech.communitybe.post.dto.LikeIntent;
+import boot.kakaotech.communitybe.post.dto.LikeIntentResult;
 import boot.kakaotech.communitybe.post.dto.PostDetailWrapper;
 import boot.kakaotech.communitybe.post.dto.PostListWrapper;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface CustomPostRepository {
 
-    List<PostListWrapper> getPostsUsingFetch(Pageable pageable);
+    List<Integer> getPostIdsUsingFetch(Pageable pageable);
 
-    PostDetailWrapper getPostById(int postId, int userId);
+    List<Integer> getPostIdsUsingKeyset(Integer lastPostId, int size);
+
+    List<PostListWrapper> getPostsByIds(Collection<Integer> postIds);
+
+    PostDetailWrapper getPostById(int postId);
 
     List<String> getImages(int postId);
 
-    int updateViewCountByPostId(Integer postId, Integer viewCount);
+    int addViewCounts(Map<Integer, Long> deltas);
+
+    boolean lockPost(Integer postId);
+
+    int updateLikeCount(Integer postId, long delta);
+
+    LikeIntentResult applyLikeIntents(List<LikeIntent> intents);
+
+    int updateCommentCount(Integer postId, long delta);
+
+    Integer findMaxPostId();
+
+    int reconcileCounters(Integer fromId, Integer toId);
 
 }
@@ -1,41 +1,113 @@
 package boot.kakaotech.communitybe.post.repository;
 
+import boot.kakaotech.communitybe.comment.entity.QComment;
+import boot.kakaotech.communitybe.post.dto.LikeIntent;
+import boot.kakaotech.communitybe.post.dto.LikeIntentResult;
 import boot.kakaotech.communitybe.post.dto.PostDetailDto;
 import boot.kakaotech.communitybe.post.dto.PostDetailWrapper;
 import boot.kakaotech.communitybe.post.dto.PostListDto;
 import boot.kakaotech.communitybe.post.dto.PostListWrapper;
+import boot.kakaotech.communitybe.post.entity.QPostLike;
 import boot.kakaotech.communitybe.user.dto.SimpUserInfo;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
-import static boot.kakaotech.communitybe.comment.entity.QComment.comment;
 import static boot.kakaotech.communitybe.post.entity.QPost.post;
 import static boot.kakaotech.communitybe.post.entity.QPostImage.postImage;
-import static boot.kakaotech.communitybe.post.entity.QPostLike.postLike;
 import static boot.kakaotech.communitybe.user.entity.QUser.user;
 
 @Repository
 @RequiredArgsConstructor
 public class CustomPostRepositoryImpl implements CustomPostRepository {
 
+    private static final String ADD_VIEW_COUNT_SQL = "UPDATE post SET view_count = view_count + ? WHERE id = ?";
+    private static final String INSERT_LIKE_SQL = "INSERT IGNORE INTO post_like (post_id, user_id) " +
+            "SELECT p.id, ? FROM post p WHERE p.id = ? AND p.deleted_at IS NULL";
+    private static final String DELETE_LIKE_SQL = "DELETE FROM post_like WHERE post_id = ? AND user_id = ?";
+    private static final String ADD_LIKE_COUNT_SQL = "UPDATE post SET like_count = GREATEST(like_count + ?, 0) WHERE id = ?";
+    private static final String RECOUNT_LIKE_SQL = "UPDATE post p SET p.like_count = " +
+            "(SELECT COUNT(*) FROM post_like pl WHERE pl.post_id = p.id) WHERE p.id = ?";
+
     private final JPAQueryFactory jpaQueryFactory;
 
+    private final JdbcTemplate jdbcTemplate;
+
     @Override
-    public List<PostListWrapper> getPostsUsingFetch(Pageable pageable) {
+    public List<Integer> getPostIdsUsingFetch(Pageable pageable) {
+        List<Integer> postIds = selectPostIds()
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1)
+                .fetch();
+
+        return postIds;
+    }
+
+    @Override
+    public List<Integer> getPostIdsUsingKeyset(Integer lastPostId, int size) {
+        List<Integer> postIds = selectPostIds()
+                .where(afterCursor(lastPostId))
+                .limit(size + 1)
+                .fetch();
+
+        return postIds;
+    }
+
+    /**
+     * 목록 1단계: 페이지에 들어갈 게시글 id만 조회하는 쿼리
+     * - (createdAt, id) 내림차순으로 정렬해서 keyset 페이징과 offset 페이징 모두 같은 순서 보장
+     * - id만 읽으므로 정렬/필터는 인덱스 안에서 끝나고 비용은 페이지 크기에 비례
+     *
+     * @return
+     */
+    private JPAQuery<Integer> selectPostIds() {
+        return jpaQueryFactory
+                .select(post.id)
+                .from(post)
+                .join(post.author, user)
+                .where(
+                        post.deletedAt.isNull(),
+                        user.deletedAt.isNull()
+                )
+                .orderBy(post.createdAt.desc(), post.id.desc());
+    }
+
+    /**
+     * 목록 2단계: id 목록에 해당하는 게시글과 작성자를 IN 조회 한 번으로 채우는 메서드
+     * - 좋아요/댓글 수는 post에 비정규화된 카운터를 그대로 읽어 조인/집계 없음
+     * - 반환 순서는 보장하지 않으므로 호출하는 쪽에서 id 순서대로 정렬
+     *
+     * @param postIds
+     * @return
+     */
+    @Override
+    public List<PostListWrapper> getPostsByIds(Collection<Integer> postIds) {
         List<PostListWrapper> posts = jpaQueryFactory
                 .select(Projections.fields(PostListWrapper.class,
                         Projections.fields(PostListDto.class,
                                 post.id,
                                 post.title,
-                                postLike.countDistinct().as("likeCount"),
-                                comment.countDistinct().as("commentCount"),
+                                post.excerpt,
+                                post.likeCount,
+                                post.commentCount,
                                 post.viewCount,
                                 post.createdAt)
                         .as("post"),
@@ -47,36 +119,50 @@ public class CustomPostRepositoryImpl implements CustomPostRepository {
                 ))
                 .from(post)
                 .join(post.author, user)
-                .leftJoin(post.likes, postLike)
-                .leftJoin(post.comments, comment)
-                .on(comment.deletedAt.isNull())
-                .where(
-                        post.deletedAt.isNull(),
-                        user.deletedAt.isNull()
-                )
-                .groupBy(
-                        post.id, post.title, post.viewCount, post.createdAt,
-                        user.id, user.nickname, user.profileImageKey
-                )
-                .orderBy(post.createdAt.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize() + 1)
+                .where(post.id.in(postIds))
                 .fetch();
 
         return posts;
     }
 
-    @Override
-    public PostDetailWrapper getPostById(int postId, int userId) {
-        BooleanExpression likedExpr = JPAExpressions
-                .selectOne()
-                .from(postLike)
-                .where(
-                        postLike.post.id.eq(postId),
-                        postLike.user.id.eq(userId)
-                )
-                .exists();
+    /**
+     * keyset 커서 조건 만드는 메서드
+     * - 직전 페이지 마지막 게시글의 (createdAt, id)보다 뒤에 있는 게시글만 조회
+     * - 커서 게시글의 createdAt은 PK 단건 조회로 먼저 가져옴 (삭제된 게시글도 row는 남아 있어 그대로 사용)
+     * - 커서 게시글 row가 아예 없으면 빈 페이지 대신 id만으로 이어서 조회 (id는 작성 순서대로 증가)
+     *
+     * @param lastPostId
+     * @return
+     */
+    private BooleanExpression afterCursor(Integer lastPostId) {
+        if (lastPostId == null || lastPostId <= 0) {
+            return null;
+        }
+
+        LocalDateTime cursorCreatedAt = jpaQueryFactory
+                .select(post.createdAt)
+                .from(post)
+                .where(post.id.eq(lastPostId))
+                .fetchOne();
+
+        if (cursorCreatedAt == null) {
+            return post.id.lt(lastPostId);
+        }
+
+        return post.createdAt.lt(cursorCreatedAt)
+                .or(post.createdAt.eq(cursorCreatedAt).and(post.id.lt(lastPostId)));
+    }
 
+    /**
+     * 게시글 상세 조회 쿼리
+     * - liked는 LikedPostIndex에서 채우므로 post_like는 조회하지 않음
+     * - 본문은 post_content에 있으므로 호출하는 쪽에서 PK로 따로 조회
+     *
+     * @param postId
+     * @return
+     */
+    @Override
+    public PostDetailWrapper getPostById(int postId) {
         PostDetailWrapper detail = jpaQueryFactory
                 .select(
                         Projections.fields(PostDetailWrapper.class,
@@ -88,25 +174,15 @@ public class CustomPostRepositoryImpl implements CustomPostRepository {
                                 Projections.fields(PostDetailDto.class,
                                         post.id,
                                         post.title,
-                                        post.content,
-                                        postLike.countDistinct().as("likeCount"),
-                                        comment.countDistinct().as("commentCount"),
+                                        post.likeCount,
+                                        post.commentCount,
                                         post.viewCount,
-                                        likedExpr.as("liked"),
                                         post.createdAt
                                         ).as("post")
                         )
                 )
                 .from(post)
                 .join(post.author, user)
-                .leftJoin(post.likes, postLike)
-                .leftJoin(post.images, postImage)
-                .leftJoin(post.comments, comment)
-                .on(comment.deletedAt.isNull())
-                .groupBy(
-                        post.id, post.title, post.viewCount, post.createdAt,
-                        user.id, user.nickname, user.profileImageKey
-                )
                 .where(
                         post.id.eq(postId),
                         post.deletedAt.isNull(),
@@ -128,16 +204,190 @@ public class CustomPostRepositoryImpl implements CustomPostRepository {
         return images;
     }
 
+    /**
+     * 게시글별 조회수 증가분을 JDBC batch 한 번으로 반영하는 메서드
+     * - 조회수는 영속성 컨텍스트와 무관한 단순 증분이라 JPA 대신 JdbcTemplate 사용
+     *
+     * @param deltas postId -> 증가분
+     * @return 반영된 row 수
+     */
+    @Override
+    public int addViewCounts(Map<Integer, Long> deltas) {
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((postId, delta) -> args.add(new Object[] { delta, postId }));
+
+        int[] results = jdbcTemplate.batchUpdate(ADD_VIEW_COUNT_SQL, args);
+
+        int updatedRows = 0;
+        for (int result : results) {
+            if (result == Statement.SUCCESS_NO_INFO) {
+                updatedRows++;
+            } else if (result > 0) {
+                updatedRows += result;
+            }
+        }
+
+        return updatedRows;
+    }
+
+    /**
+     * write-behind 좋아요 의도를 JDBC batch로 반영하는 메서드
+     * 1. 좋아요는 INSERT IGNORE, 취소는 DELETE로 각각 batch 실행 (이미 같은 상태면 0 row)
+     * 2. 실제로 바뀐 row 수로 게시글별 좋아요 수 증감분 계산 후 batch update
+     * 3. 드라이버가 batch 결과를 SUCCESS_NO_INFO로 돌려준 게시글은 증감분을 알 수 없으므로 다시 count
+     *
+     * @param intents
+     * @return 실제로 row를 바꾼 의도와 반영 여부를 알 수 없는 유저
+     */
     @Override
-    public int updateViewCountByPostId(Integer postId, Integer viewCount) {
+    public LikeIntentResult applyLikeIntents(List<LikeIntent> intents) {
+        List<LikeIntent> likes = intents.stream().filter(LikeIntent::liked).toList();
+        List<LikeIntent> unlikes = intents.stream().filter(intent -> !intent.liked()).toList();
+
+        Map<Integer, Long> deltas = new HashMap<>();
+        Set<Integer> recounts = new HashSet<>();
+        List<LikeIntent> applied = new ArrayList<>();
+        Set<Integer> unknownUserIds = new HashSet<>();
+
+        if (!likes.isEmpty()) {
+            int[] results = jdbcTemplate.batchUpdate(INSERT_LIKE_SQL,
+                    likes.stream().map(intent -> new Object[] { intent.userId(), intent.postId() }).toList());
+            collectLikeDeltas(likes, results, 1, deltas, recounts, applied, unknownUserIds);
+        }
+
+        if (!unlikes.isEmpty()) {
+            int[] results = jdbcTemplate.batchUpdate(DELETE_LIKE_SQL,
+                    unlikes.stream().map(intent -> new Object[] { intent.postId(), intent.userId() }).toList());
+            collectLikeDeltas(unlikes, results, -1, deltas, recounts, applied, unknownUserIds);
+        }
+
+        recounts.forEach(deltas::remove);
+        deltas.values().removeIf(delta -> delta == 0);
+
+        if (!deltas.isEmpty()) {
+            List<Object[]> args = new ArrayList<>(deltas.size());
+            deltas.forEach((postId, delta) -> args.add(new Object[] { delta, postId }));
+            jdbcTemplate.batchUpdate(ADD_LIKE_COUNT_SQL, args);
+        }
+
+        if (!recounts.isEmpty()) {
+            jdbcTemplate.batchUpdate(RECOUNT_LIKE_SQL,
+                    recounts.stream().map(postId -> new Object[] { postId }).toList());
+        }
+
+        return new LikeIntentResult(applied, unknownUserIds);
+    }
+
+    private void collectLikeDeltas(List<LikeIntent> intents, int[] results, int sign, Map<Integer, Long> deltas,
+                                   Set<Integer> recounts, List<LikeIntent> applied, Set<Integer> unknownUserIds) {
+        for (int i = 0; i < results.length; i++) {
+            LikeIntent intent = intents.get(i);
+
+            if (results[i] == Statement.SUCCESS_NO_INFO) {
+                recounts.add(intent.postId());
+                unknownUserIds.add(intent.userId());
+            } else if (results[i] > 0) {
+                deltas.merge(intent.postId(), (long) sign * results[i], Long::sum);
+                applied.add(intent);
+            }
+        }
+    }
+
+    /**
+     * 게시글 row에 쓰기 락 거는 메서드 (SELECT ... FOR UPDATE)
+     * - post_like insert는 FK 확인으로 post row에 공유 락을 잡고, 이어지는 like_count update는 배타 락이 필요함
+     * - 같은 게시글에 동시에 좋아요가 몰리면 서로 공유 락을 쥔 채 배타 락을 기다려 deadlock이 나므로,
+     *   좋아요/취소 트랜잭션은 post_like를 건드리기 전에 이 메서드로 post row부터 잡아서 락 순서를 맞춤
+     *
+     * @param postId
+     * @return 게시글이 있으면 true (삭제 여부와 무관)
+     */
+    @Override
+    public boolean lockPost(Integer postId) {
+        Integer lockedId = jpaQueryFactory
+                .select(post.id)
+                .from(post)
+                .where(post.id.eq(postId))
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .fetchOne();
+
+        return lockedId != null;
+    }
+
+    @Override
+    public int updateLikeCount(Integer postId, long delta) {
         long affectiveRows = jpaQueryFactory
                 .update(post)
-                .set(post.viewCount, post.viewCount.add(viewCount))
-                .where(post.id.eq(postId))
+                .set(post.likeCount, post.likeCount.add(delta))
+                .where(
+                        post.id.eq(postId),
+                        post.likeCount.add(delta).goe(0L)
+                )
                 .execute();
 
         return (int) affectiveRows;
     }
 
+    @Override
+    public int updateCommentCount(Integer postId, long delta) {
+        long affectiveRows = jpaQueryFactory
+                .update(post)
+                .set(post.commentCount, post.commentCount.add(delta))
+                .where(
+                        post.id.eq(postId),
+                        post.commentCount.add(delta).goe(0L)
+                )
+                .execute();
+
+        return (int) affectiveRows;
+    }
+
+    @Override
+    public Integer findMaxPostId() {
+        return jpaQueryFactory
+                .select(post.id.max())
+                .from(post)
+                .fetchOne();
+    }
+
+    /**
+     * id 범위 내 게시글의 좋아요/댓글 카운터를 실제 row 수로 맞추는 메서드
+     * - 값이 어긋난 게시글만 갱신하므로 반환값은 보정된 게시글 수
+     *
+     * @param fromId
+     * @param toId
+     * @return
+     */
+    @Override
+    public int reconcileCounters(Integer fromId, Integer toId) {
+        QPostLike likeSub = new QPostLike("likeSub");
+        QComment commentSub = new QComment("commentSub");
+
+        JPQLQuery<Long> actualLikeCount = JPAExpressions
+                .select(likeSub.count())
+                .from(likeSub)
+                .where(likeSub.post.id.eq(post.id));
+
+        JPQLQuery<Long> actualCommentCount = JPAExpressions
+                .select(commentSub.count())
+                .from(commentSub)
+                .where(
+                        commentSub.post.id.eq(post.id),
+                        commentSub.deletedAt.isNull()
+                );
+
+        long affectiveRows = jpaQueryFactory
+                .update(post)
+                .set(post.likeCount, actualLikeCount)
+                .set(post.commentCount, actualCommentCount)
+                .where(
+                        post.id.between(fromId, toId),
+                        post.likeCount.ne(actualLikeCount)
+                                .or(post.commentCount.ne(actualCommentCount))
+                )
+                .execute();
+
+        return (int) affectiveRows;
+    }
 
 }
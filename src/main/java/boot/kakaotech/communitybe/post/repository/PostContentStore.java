@@ -0,0 +1,114 @@
+package boot.kakaotech.communitybe.post.repository;
+
+import boot.kakaotech.communitybe.common.properties.PostProperty;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 게시글 본문(post_content) 읽기/쓰기
+ * - V5에서 본문을 post.content → post_content로 옮겼지만, 롤링 배포 중에는 이전 버전 인스턴스가 post.content만 읽고 씀
+ * - post.content.legacy-column이 켜져 있는 동안(post.content 컬럼 삭제 전)은
+ *   1. 쓰기: post_content와 post.content 둘 다 기록해서 이전 버전 인스턴스도 최신 본문을 읽음
+ *   2. 읽기: post_content를 PK로 읽고, row가 없을 때만(이전 버전이 만든 글) post.content를 읽음
+ *   3. 이전 버전이 만들거나 수정한 본문은 PostContentBackfillScheduler가 주기적으로 post_content와 excerpt에 옮김
+ *      (그 전까지 이전 버전이 수정한 글은 새 버전 인스턴스에서 수정 전 본문으로 보임)
+ * - 모든 인스턴스가 이 버전으로 배포되면 backfill이 한 번 더 돈 뒤 legacy-column을 끄고, 이후 컬럼 삭제 마이그레이션 진행
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostContentStore {
+
+    public static final int EXCERPT_LENGTH = 100;
+
+    private static final String UPSERT_CONTENT_SQL = "INSERT INTO post_content (post_id, content) VALUES (?, ?) " +
+            "ON DUPLICATE KEY UPDATE content = VALUES(content)";
+    private static final String UPDATE_LEGACY_CONTENT_SQL = "UPDATE post SET content = ? WHERE id = ?";
+    private static final String SELECT_CONTENT_SQL = "SELECT content FROM post_content WHERE post_id = ?";
+    private static final String SELECT_LEGACY_CONTENT_SQL = "SELECT content FROM post WHERE id = ?";
+    private static final String BACKFILL_CONTENT_SQL = "INSERT INTO post_content (post_id, content) " +
+            "SELECT p.id, p.content FROM post p LEFT JOIN post_content pc ON pc.post_id = p.id " +
+            "WHERE p.id BETWEEN ? AND ? AND (pc.post_id IS NULL OR NOT (pc.content <=> p.content)) " +
+            "ON DUPLICATE KEY UPDATE content = VALUES(content)";
+    private static final String BACKFILL_EXCERPT_SQL = "UPDATE post SET excerpt = LEFT(content, ?) " +
+            "WHERE id BETWEEN ? AND ? AND content IS NOT NULL AND NOT (excerpt <=> LEFT(content, ?))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final PostProperty property;
+
+    /**
+     * 본문 저장하는 메서드 (생성/수정 공통, 호출하는 쪽 트랜잭션에 참여)
+     * - legacy-column이 켜져 있으면 post.content에도 같이 기록
+     *
+     * @param postId
+     * @param content
+     */
+    public void write(int postId, String content) {
+        jdbcTemplate.update(UPSERT_CONTENT_SQL, postId, content);
+
+        if (isLegacyColumn()) {
+            jdbcTemplate.update(UPDATE_LEGACY_CONTENT_SQL, content, postId);
+        }
+    }
+
+    /**
+     * 본문 조회하는 메서드
+     * 1. post_content를 PK로 조회, row가 있으면 그대로 반환 (LONGTEXT 하나만 읽음)
+     * 2. row가 없고 legacy-column이 켜져 있으면 post.content 반환 (이전 버전 인스턴스가 만든 글)
+     *
+     * @param postId
+     * @return 게시글이 없으면 null
+     */
+    public String read(int postId) {
+        List<String> contents = jdbcTemplate.queryForList(SELECT_CONTENT_SQL, String.class, postId);
+        if (!contents.isEmpty() || !isLegacyColumn()) {
+            return contents.isEmpty() ? null : contents.get(0);
+        }
+
+        List<String> legacyContents = jdbcTemplate.queryForList(SELECT_LEGACY_CONTENT_SQL, String.class, postId);
+        return legacyContents.isEmpty() ? null : legacyContents.get(0);
+    }
+
+    /**
+     * id 범위 안에서 post.content와 다른 post_content/excerpt를 post.content 기준으로 맞추는 메서드 (호출하는 쪽 트랜잭션에 참여)
+     * - 이전 버전 인스턴스는 post.content만 쓰므로 row가 없거나 본문이 다르면 post.content가 최신
+     * - 비교는 DB 안에서 하므로 본문을 애플리케이션으로 읽어오지 않음
+     *
+     * @param fromId
+     * @param toId
+     * @return post_content 영향받은 row 수 (MySQL은 ON DUPLICATE KEY UPDATE로 바뀐 row를 2로 집계)
+     */
+    public int backfill(int fromId, int toId) {
+        int affected = jdbcTemplate.update(BACKFILL_CONTENT_SQL, fromId, toId);
+        jdbcTemplate.update(BACKFILL_EXCERPT_SQL, EXCERPT_LENGTH, fromId, toId, EXCERPT_LENGTH);
+
+        return affected;
+    }
+
+    /**
+     * 목록 카드용 본문 앞부분 만드는 메서드
+     * - 서로게이트 쌍이 잘리지 않도록 code point 기준으로 자름 (V5 마이그레이션의 LEFT()와 같은 기준)
+     *
+     * @param content
+     * @return
+     */
+    public static String excerptOf(String content) {
+        if (content == null) {
+            return null;
+        }
+
+        if (content.codePointCount(0, content.length()) <= EXCERPT_LENGTH) {
+            return content;
+        }
+
+        return content.substring(0, content.offsetByCodePoints(0, EXCERPT_LENGTH));
+    }
+
+    public boolean isLegacyColumn() {
+        return property.getContent().isLegacyColumn();
+    }
+
+}
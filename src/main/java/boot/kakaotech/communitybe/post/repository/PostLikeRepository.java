@@ -2,15 +2,42 @@ package boot.kakaotech.communitybe.post.repository;
 
 import boot.kakaotech.communitybe.post.entity.PostLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
+import java.util.List;
 
 @Repository
 public interface PostLikeRepository extends JpaRepository<PostLike, Integer> {
 
-    boolean existsByPostIdAndUserId(Integer postId, Integer userId);
+    @Query("select pl.post.id from PostLike pl where pl.user.id = :userId")
+    List<Integer> findPostIdsByUserId(@Param("userId") Integer userId);
 
-    Optional<PostLike> findByPostIdAndUserId(Integer postId, Integer userId);
+    /**
+     * 삭제되지 않은 게시글에만 좋아요 추가하는 쿼리
+     * (post_id, user_id) unique 제약 덕분에 이미 있으면 무시됨
+     *
+     * @param postId
+     * @param userId
+     * @return 새로 추가됐으면 1, 이미 있거나 게시글이 없으면 0
+     */
+    @Modifying
+    @Query(value = "insert ignore into post_like (post_id, user_id) " +
+            "select p.id, :userId from post p where p.id = :postId and p.deleted_at is null",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("postId") Integer postId, @Param("userId") Integer userId);
+
+    /**
+     * 좋아요 삭제하는 쿼리
+     *
+     * @param postId
+     * @param userId
+     * @return 삭제됐으면 1, 없었으면 0
+     */
+    @Modifying
+    @Query(value = "delete from post_like where post_id = :postId and user_id = :userId", nativeQuery = true)
+    int deleteByPostIdAndUserId(@Param("postId") Integer postId, @Param("userId") Integer userId);
 
 }
@@ -0,0 +1,52 @@
+package boot.kakaotech.communitybe.post.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 조회수 저널 segment 중 어느 구간이 DB에 반영됐는지 남기는 기록 (view_count_flush_log)
+ * - chunk 반영과 같은 트랜잭션에서 (segment key, chunk의 첫/마지막 postId)를 기록
+ * - 재시작 후 남은 segment를 다시 반영할 때 기록된 구간은 제외해서 커밋 직후 죽어도 두 번 더하지 않음
+ * - segment가 삭제되면 기록도 지움 (지우기 전에 죽어 남은 기록은 같은 key가 다시 쓰이지 않으므로 무해)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ViewCountFlushLogRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO view_count_flush_log (segment_key, first_post_id, last_post_id) VALUES (?, ?, ?)";
+    private static final String SELECT_SQL = "SELECT first_post_id, last_post_id FROM view_count_flush_log WHERE segment_key = ?";
+    private static final String DELETE_SQL = "DELETE FROM view_count_flush_log WHERE segment_key = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void record(String segmentKey, int firstPostId, int lastPostId) {
+        jdbcTemplate.update(INSERT_SQL, segmentKey, firstPostId, lastPostId);
+    }
+
+    public List<AppliedRange> findAppliedRanges(String segmentKey) {
+        return jdbcTemplate.query(
+                SELECT_SQL,
+                (rs, rowNum) -> new AppliedRange(rs.getInt("first_post_id"), rs.getInt("last_post_id")),
+                segmentKey
+        );
+    }
+
+    public void deleteBySegment(String segmentKey) {
+        jdbcTemplate.update(DELETE_SQL, segmentKey);
+    }
+
+    /**
+     * 이미 반영된 postId 구간 (양 끝 포함)
+     */
+    public record AppliedRange(int firstPostId, int lastPostId) {
+
+        public boolean contains(int postId) {
+            return firstPostId <= postId && postId <= lastPostId;
+        }
+
+    }
+
+}
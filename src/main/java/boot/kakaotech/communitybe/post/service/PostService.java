@@ -1,14 +1,16 @@
 package boot.kakaotech.communitybe.post.service;
 
+import boot.kakaotech.communitybe.common.scroll.PagingMode;
 import boot.kakaotech.communitybe.common.scroll.dto.CursorPage;
 import boot.kakaotech.communitybe.post.dto.CreatePostDto;
+import boot.kakaotech.communitybe.post.dto.LikeStateDto;
 import boot.kakaotech.communitybe.post.dto.PostDetailWrapper;
 import boot.kakaotech.communitybe.post.dto.PostListWrapper;
 import boot.kakaotech.communitybe.post.dto.SavedPostDto;
 
 public interface PostService {
 
-    CursorPage<PostListWrapper> getPosts(int cursor, int size);
+    CursorPage<PostListWrapper> getPosts(Integer cursor, int size, PagingMode mode);
 
     PostDetailWrapper getPost(int postId);
 
@@ -18,8 +20,8 @@ public interface PostService {
 
     void softDeletePost(int postId);
 
-    void likePost(int postId);
+    LikeStateDto likePost(int postId);
 
-    void unlikePost(int postId);
+    LikeStateDto unlikePost(int postId);
 
 }
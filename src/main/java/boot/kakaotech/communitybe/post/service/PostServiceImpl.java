@@ -3,24 +3,34 @@ package boot.kakaotech.communitybe.post.service;
 import boot.kakaotech.communitybe.comment.dto.CommentDto;
 import boot.kakaotech.communitybe.comment.dto.CommentThreadDto;
 import boot.kakaotech.communitybe.comment.repository.CommentRepository;
+import boot.kakaotech.communitybe.common.concurrent.DeadlineScope;
+import boot.kakaotech.communitybe.common.concurrent.ForkBulkhead;
 import boot.kakaotech.communitybe.common.exception.BusinessException;
 import boot.kakaotech.communitybe.common.exception.ErrorCode;
-import boot.kakaotech.communitybe.common.properties.PrefixProperty;
+import boot.kakaotech.communitybe.common.persistence.RequestEntityCache;
+import boot.kakaotech.communitybe.common.properties.LikeProperty;
+import boot.kakaotech.communitybe.common.properties.PostProperty;
 import boot.kakaotech.communitybe.common.properties.S3Property;
 import boot.kakaotech.communitybe.common.s3.service.S3Service;
+import boot.kakaotech.communitybe.common.scroll.PagingMode;
 import boot.kakaotech.communitybe.common.scroll.dto.CursorPage;
-import boot.kakaotech.communitybe.common.util.KeyValueStore;
 import boot.kakaotech.communitybe.common.validation.Validator;
 import boot.kakaotech.communitybe.post.dto.CreatePostDto;
+import boot.kakaotech.communitybe.post.dto.LikeStateDto;
+import boot.kakaotech.communitybe.post.dto.PostDetailDto;
 import boot.kakaotech.communitybe.post.dto.PostDetailWrapper;
+import boot.kakaotech.communitybe.post.dto.PostListDto;
 import boot.kakaotech.communitybe.post.dto.PostListWrapper;
 import boot.kakaotech.communitybe.post.dto.SavedPostDto;
 import boot.kakaotech.communitybe.post.entity.Post;
 import boot.kakaotech.communitybe.post.entity.PostImage;
-import boot.kakaotech.communitybe.post.entity.PostLike;
+import boot.kakaotech.communitybe.post.index.LikedPostIndex;
+import boot.kakaotech.communitybe.post.repository.PostContentStore;
 import boot.kakaotech.communitybe.post.repository.PostLikeRepository;
 import boot.kakaotech.communitybe.post.repository.PostRepository;
+import boot.kakaotech.communitybe.common.util.LikeBuffer;
 import boot.kakaotech.communitybe.common.util.ThreadLocalContext;
+import boot.kakaotech.communitybe.common.util.ViewCountStore;
 import boot.kakaotech.communitybe.user.entity.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,9 +39,15 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -43,37 +59,54 @@ public class PostServiceImpl implements PostService {
 
     private final PostRepository postRepository;
     private final PostLikeRepository postLikeRepository;
+    private final PostContentStore postContentStore;
     private final CommentRepository commentRepository;
 
     private final ThreadLocalContext context;
-    private final KeyValueStore kvStore;
+    private final ViewCountStore viewCountStore;
+    private final LikeBuffer likeBuffer;
+    private final LikedPostIndex likedPostIndex;
     private final Validator validator;
+    private final RequestEntityCache entityCache;
+    private final ForkBulkhead detailForkBulkhead;
 
-    private final PrefixProperty property;
+    private final PostProperty postProperty;
+    private final LikeProperty likeProperty;
     private final S3Service s3Service;
     private final S3Property s3Property;
 
     /**
      * 게시글 목록 조회하는 메서드
+     * - KEYSET: cursor는 직전 페이지 마지막 게시글 id (없거나 0이면 첫 페이지)
+     * - OFFSET: cursor는 페이지 번호 (레거시)
      *
      * @param cursor
      * @param size
+     * @param mode
      * @return
      */
     @Override
-    public CursorPage<PostListWrapper> getPosts(int cursor, int size) {
-        log.info("[PostService] 게시글 목록 조회 시작");
+    public CursorPage<PostListWrapper> getPosts(Integer cursor, int size, PagingMode mode) {
+        log.info("[PostService] 게시글 목록 조회 시작 - mode: {}", mode);
 
-        Pageable pageable = PageRequest.of(cursor, size);
-        List<PostListWrapper> posts = postRepository.getPostsUsingFetch(pageable);
+        if (mode == PagingMode.OFFSET) {
+            int page = cursor == null ? 0 : cursor;
+            Pageable pageable = PageRequest.of(page, size);
+            List<Integer> postIds = postRepository.getPostIdsUsingFetch(pageable);
 
-        return createPostList(posts, size, cursor);
+            return createPostList(postIds, size, mode, page);
+        }
+
+        List<Integer> postIds = postRepository.getPostIdsUsingKeyset(cursor, size);
+
+        return createPostList(postIds, size, mode, 0);
     }
 
     /**
      * post detail을 조회하는 메서드
      * 1. 현재 요청한 유저id 조회
      * 2. PostDetailWrapper 조회
+     * 3. 좋아요 여부는 LikedPostIndex에서 확인, 아직 DB에 반영되지 않은 내 좋아요가 있으면 덮어쓰기
      *
      * @param postId
      * @return
@@ -83,7 +116,8 @@ public class PostServiceImpl implements PostService {
         log.info("[PostService] 게시글 상세조회 시작 - postId = {}", postId);
 
         int userId = context.getCurrentUserId();
-        PostDetailWrapper post = makePostDetail(postId, userId);
+        PostDetailWrapper post = makePostDetail(postId);
+        setLikedIntoDetail(post, postId, userId);
 
         return post;
     }
@@ -99,7 +133,7 @@ public class PostServiceImpl implements PostService {
     public SavedPostDto savePost(CreatePostDto dto) {
         log.info("[PostService] 게시글 생성 시작");
 
-        User author = context.getCurrentUser();
+        User author = entityCache.getReference(User.class, context.getCurrentUserId());
         Post post = createPost(author, dto);
 
         List<PostImage> imagesList = new ArrayList<>();
@@ -154,63 +188,143 @@ public class PostServiceImpl implements PostService {
         log.info("[PostService] 게시글 삭제 시작 - postId = {}", postId);
 
         User user = context.getCurrentUser();
-        Post post = postRepository.findById(postId).orElse(null);
+        Post post = entityCache.find(Post.class, postId);
         validator.validatePostAndAuthor(post, user);
 
         post.setDeletedAt(LocalDateTime.now());
     }
 
     /**
-     * 좋아요 생성하는 메서드
+     * 좋아요 생성하는 메서드 (멱등)
+     * - like.write-behind.enabled면 버퍼에 의도만 기록하고 LikeWriteBehindScheduler가 나중에 반영
+     *   (버퍼가 가득 차면 아래 순서대로 바로 반영)
+     * 1. 게시글 row 락 (동시 좋아요끼리 deadlock 방지, CustomPostRepository.lockPost 참고)
+     * 2. 삭제되지 않은 게시글이면 좋아요 insert, 이미 있으면 unique 제약으로 무시
+     * 3. 실제로 추가됐을 때만 좋아요 수 증가
+     * 4. 아무것도 추가되지 않았으면 게시글이 없는지, 이미 눌렀는지 구분
      *
      * @param postId
+     * @return 요청 후 좋아요 상태
      */
     @Override
     @Transactional
-    public void likePost(int postId) {
+    public LikeStateDto likePost(int postId) {
         log.info("[PostService] 게시글 좋아요 시작 - postId = {}", postId);
 
-        User user = context.getCurrentUser();
-        Post post = postRepository.findById(postId).orElse(null);
-        validator.validatePost(post);          // 없으면 예외
+        int userId = context.getCurrentUserId();
 
-        boolean alreadyLiked = postLikeRepository
-                .existsByPostIdAndUserId(postId, user.getId());
-        if (alreadyLiked) {
-            throw new BusinessException(ErrorCode.ILLEGAL_ARGUMENT);
+        if (likeProperty.getWriteBehind().isEnabled() && likeBuffer.record(postId, userId, true)) {
+            // 버퍼에 기록됨, 버퍼가 가득 찼으면 아래 동기 경로로 바로 반영
+        } else if (postRepository.lockPost(postId) && postLikeRepository.insertIfAbsent(postId, userId) == 1) {
+            postRepository.updateLikeCount(postId, 1);
+            likedPostIndex.update(userId, postId, true);
+        } else {
+            Post post = entityCache.find(Post.class, postId);
+            validator.validatePost(post);          // 없으면 예외
+            if (post.getDeletedAt() != null) {
+                throw new BusinessException(ErrorCode.ILLEGAL_ARGUMENT);
+            }
+            // 이미 눌려있으면 그대로 성공
         }
 
-        PostLike like = PostLike.builder()
-                .post(post)
-                .user(user)
+        return LikeStateDto.builder()
+                .postId(postId)
+                .liked(true)
                 .build();
-
-        postLikeRepository.save(like);
     }
 
     /**
-     * 좋아요 삭제하는 메서드
+     * 좋아요 삭제하는 메서드 (멱등)
+     * - like.write-behind.enabled면 버퍼에 의도만 기록하고 LikeWriteBehindScheduler가 나중에 반영
+     *   (버퍼가 가득 차면 아래 순서대로 바로 반영)
+     * 1. 게시글 row 락 (좋아요와 같은 순서로 잡아서 deadlock 방지)
+     * 2. 좋아요 delete
+     * 3. 실제로 삭제됐을 때만 좋아요 수 감소
+     * 4. 아무것도 삭제되지 않았으면 게시글 존재 여부만 확인
      *
      * @param postId
+     * @return 요청 후 좋아요 상태
      */
     @Override
     @Transactional
-    public void unlikePost(int postId) {
+    public LikeStateDto unlikePost(int postId) {
         log.info("[PostService] 게시글 좋아요 취소 시작 - postId = {}", postId);
 
-        User user = context.getCurrentUser();
-        Post post = postRepository.findById(postId).orElse(null);
-        validator.validatePost(post);
+        int userId = context.getCurrentUserId();
+
+        if (likeProperty.getWriteBehind().isEnabled() && likeBuffer.record(postId, userId, false)) {
+            // 버퍼에 기록됨, 버퍼가 가득 찼으면 아래 동기 경로로 바로 반영
+        } else if (postRepository.lockPost(postId) && postLikeRepository.deleteByPostIdAndUserId(postId, userId) == 1) {
+            postRepository.updateLikeCount(postId, -1);
+            likedPostIndex.update(userId, postId, false);
+        } else {
+            Post post = entityCache.find(Post.class, postId);
+            validator.validatePost(post);
+            // 안 눌려있으면 그냥 무시
+        }
 
-        PostLike like = postLikeRepository
-                .findByPostIdAndUserId(postId, user.getId())
-                .orElse(null);
+        return LikeStateDto.builder()
+                .postId(postId)
+                .liked(false)
+                .build();
+    }
 
-        if (like == null) {
-            return; // 안 눌려있으면 그냥 무시
+    /**
+     * 상세 조회 결과에 좋아요 여부 세팅하는 메서드
+     * 1. 반영된 좋아요 여부는 LikedPostIndex에서 확인 (SQL 없음)
+     * 2. 버퍼에 남아있는 내 좋아요 의도가 있으면 덮어쓰고, 반영된 상태와 다르면 좋아요 수도 보정 (read-your-writes)
+     *
+     * @param post
+     * @param postId
+     * @param userId
+     */
+    private void setLikedIntoDetail(PostDetailWrapper post, int postId, int userId) {
+        if (post == null) {
+            return;
+        }
+
+        PostDetailDto detail = post.getPost();
+        boolean liked = likedPostIndex.isLiked(userId, postId);
+        Boolean pending = likeBuffer.pendingIntent(postId, userId);
+
+        if (pending == null || pending == liked) {
+            detail.setLiked(liked);
+            return;
         }
 
-        postLikeRepository.delete(like);
+        detail.setLiked(pending);
+        detail.setLikeCount(Math.max(0, detail.getLikeCount() + (pending ? 1 : -1)));
+    }
+
+    /**
+     * 목록의 게시글마다 내가 좋아요 눌렀는지 세팅하는 메서드
+     * - 로그인하지 않은 요청이면 모두 false
+     * - 상세 조회와 같은 방식으로 인덱스 + 버퍼 순서로 확인
+     *
+     * @param posts
+     */
+    private void setLikedIntoList(List<PostListWrapper> posts) {
+        Integer userId = context.findCurrentUserId();
+        if (userId == null || posts.isEmpty()) {
+            return;
+        }
+
+        List<Integer> postIds = posts.stream().map(post -> post.getPost().getId()).toList();
+        Set<Integer> likedIds = likedPostIndex.likedAmong(userId, postIds);
+
+        posts.forEach(post -> {
+            PostListDto dto = post.getPost();
+            boolean liked = likedIds.contains(dto.getId());
+            Boolean pending = likeBuffer.pendingIntent(dto.getId(), userId);
+
+            if (pending == null || pending == liked) {
+                dto.setLiked(liked);
+                return;
+            }
+
+            dto.setLiked(pending);
+            dto.setLikeCount(Math.max(0, dto.getLikeCount() + (pending ? 1 : -1)));
+        });
     }
 
     private List<String> makePresignedUrls(Post post, CreatePostDto dto) {
@@ -247,7 +361,7 @@ public class PostServiceImpl implements PostService {
      * @return
      */
     private Post changePost(User user, CreatePostDto dto) {
-        Post post = postRepository.findById(dto.getId()).orElse(null);
+        Post post = entityCache.find(Post.class, dto.getId());
 
         log.info("[PostService] changePost dtoId={}, userId={}, postAuthorId={}",
                 dto.getId(),
@@ -265,7 +379,8 @@ public class PostServiceImpl implements PostService {
         }
 
         if (content != null) {
-            post.setContent(content);
+            post.setExcerpt(PostContentStore.excerptOf(content));
+            postContentStore.write(post.getId(), content);
         }
 
         return post;
@@ -273,6 +388,7 @@ public class PostServiceImpl implements PostService {
 
     /**
      * Post 엔티티 생성해서 저장 후 id까지 반환하는 메서드
+     * - 본문은 PostContentStore로 따로 저장하고 post에는 목록용 excerpt만 저장
      *
      * @param author
      * @param dto
@@ -282,12 +398,14 @@ public class PostServiceImpl implements PostService {
         Post post = Post.builder()
                 .author(author)
                 .title(dto.getTitle())
-                .content(dto.getContent())
+                .excerpt(PostContentStore.excerptOf(dto.getContent()))
                 .viewCount(0)
                 .createdAt(LocalDateTime.now())
                 .build();
 
         postRepository.saveAndFlush(post);
+        postContentStore.write(post.getId(), dto.getContent());
+
         return post;
     }
 
@@ -316,7 +434,8 @@ public class PostServiceImpl implements PostService {
 
     /**
      * PostDetailWrapper 조회 후 반환하는 메서드
-     * 1. DB에서 조회
+     * - post.detail.parallel이 켜져 있으면 독립적인 조회를 병렬로 조립
+     * 1. DB에서 조회 (본문은 post_content에서 PK로 따로 조회)
      * 2. 게시글 이미지들 추가
      * 3. 작성자 추가
      * 4. 댓글 추가
@@ -324,17 +443,21 @@ public class PostServiceImpl implements PostService {
      * 6. 반환
      *
      * @param postId
-     * @param userId
      * @return
      */
-    private PostDetailWrapper makePostDetail(int postId, int userId) {
-        PostDetailWrapper post = postRepository.getPostById(postId, userId);
+    private PostDetailWrapper makePostDetail(int postId) {
+        if (postProperty.getDetail().isParallel()) {
+            return makePostDetailInParallel(postId);
+        }
+
+        PostDetailWrapper post = postRepository.getPostById(postId);
 
         if (post == null) {
             return null;
         }
 
-        setImageIntoPostDetail(post);
+        post.getPost().setContent(postContentStore.read(postId));
+        post.getPost().setImages(loadImageUrls(postId));
         setAuthorIntoPostDetail(post);
         setCommentsIntoPostDetail(post);
         increaseViewCount(post);
@@ -343,23 +466,64 @@ public class PostServiceImpl implements PostService {
     }
 
     /**
-     * PostDetailWrapper 내 게시글 이미지 추가하는 메서드
-     * 1. DB에서 이미지 조회
-     * 2. 이미지 별 presigned url 발급받아 post에 세팅
+     * PostDetailWrapper를 virtual thread로 병렬 조립하는 메서드
+     * - 게시글, 본문, 이미지, 댓글 조회는 서로 의존하지 않으므로 동시에 실행해 가장 느린 단계만큼만 대기
+     * - 작성자 프로필과 조회수는 게시글 조회 결과가 필요해서 join 이후 처리
+     * - fork된 스레드에는 ThreadLocalContext가 없으므로 유저별 정보(좋아요 여부)는 join 이후 호출하는 쪽에서 세팅
+     * - 동시 fork 수는 커넥션 풀 크기에 맞춘 bulkhead로 제한되고, 넘치면 요청 스레드에서 순차 실행
      *
-     * @param post
+     * @param postId
+     * @return
      */
-    private void setImageIntoPostDetail(PostDetailWrapper post) {
-        List<String> images = postRepository.getImages(post.getPost().getId());
-        post.getPost().setImages(new ArrayList<>());
-        images.stream().forEach(image -> {
-            if (image == null || image.isBlank()) {
-                return;
+    private PostDetailWrapper makePostDetailInParallel(int postId) {
+        Duration timeout = Duration.ofMillis(postProperty.getDetail().getTimeoutMs());
+        PostDetailWrapper post;
+
+        try (DeadlineScope scope = new DeadlineScope(timeout, detailForkBulkhead)) {
+            Supplier<PostDetailWrapper> postTask = scope.fork(() -> postRepository.getPostById(postId));
+            Supplier<String> contentTask = scope.fork(() -> postContentStore.read(postId));
+            Supplier<List<String>> imagesTask = scope.fork(() -> loadImageUrls(postId));
+            Supplier<CursorPage<CommentThreadDto>> commentsTask = scope.fork(() -> loadCommentThreadsForDetail(postId));
+
+            scope.join();
+
+            post = postTask.get();
+            if (post == null) {
+                return null;
             }
 
-            String presignedUrl = s3Service.createGETPresignedUrl(s3Property.getS3().getBucket(), image);
-            post.getPost().getImages().add(presignedUrl);
+            post.getPost().setContent(contentTask.get());
+            post.getPost().setImages(imagesTask.get());
+            post.setComments(commentsTask.get());
+        }
+
+        setAuthorIntoPostDetail(post);
+        increaseViewCount(post);
+
+        return post;
+    }
+
+    /**
+     * 게시글 이미지 presigned url 목록 만드는 메서드
+     * 1. DB에서 이미지 조회
+     * 2. 이미지 presigned url 일괄 발급 후 원래 순서대로 반환
+     *
+     * @param postId
+     * @return
+     */
+    private List<String> loadImageUrls(int postId) {
+        List<String> images = postRepository.getImages(postId);
+        Map<String, String> presignedUrls = s3Service.presignAll(images);
+        List<String> imageUrls = new ArrayList<>();
+
+        images.forEach(image -> {
+            String url = presignedUrls.get(image);
+            if (url != null) {
+                imageUrls.add(url);
+            }
         });
+
+        return imageUrls;
     }
 
     /**
@@ -396,57 +560,42 @@ public class PostServiceImpl implements PostService {
 
     /**
      * 조회수 증가시키는 메서드
-     * 1. kvStore 내 저장된거 확인
+     * 1. viewCountStore에 증가분 추가
+     * 2. DB 조회수에 아직 반영되지 않은 증가분 더해서 post에 적재
      *
      * @param post
      */
     private void increaseViewCount(PostDetailWrapper post) {
         int postId = post.getPost().getId();
-        String key = property.getViewCount() + postId;
-
-        String value = kvStore.get(key); // kvStore에서 조회
-        int delta;
-        if (value == null) {
-            delta = 0;
-        } else {
-            delta = Integer.parseInt(value);
-        }
 
-        delta++;
-        kvStore.put(key, String.valueOf(delta));
-
-        Integer originalViewCount = post.getPost().getViewCount();
-        if (originalViewCount == null) {
-            originalViewCount = 0;
-        }
+        viewCountStore.increment(postId);
 
-        post.getPost().setViewCount(originalViewCount + delta);
-        // kvStore에 추가 및 post에 적재
+        long pending = viewCountStore.get(postId);
+        post.getPost().setViewCount((int) (post.getPost().getViewCount() + pending));
     }
 
     /**
      * CursorPage 객체에 게시글 리스트 담아서 반환하는 메서드
-     * - posts의 size로 다음 게시글 있는지 확인 후 반환
+     * - postIds의 size로 다음 게시글 있는지 확인 후 현재 페이지 id만 채워서 반환
+     * - KEYSET이면 마지막 게시글 id, OFFSET이면 다음 페이지 번호를 nextCursor로 사용
      *
-     * @param posts
+     * @param postIds
      * @param size
+     * @param mode
+     * @param page
      * @return
      */
-    private CursorPage<PostListWrapper> createPostList(List<PostListWrapper> posts, int size, int cursor) {
-        boolean hasNextCursor = posts.size() > size;
-        if (hasNextCursor) {
-            posts.removeLast();
-        }
-
-        posts.forEach(post -> {
-            String profileImageKey = post.getAuthor().getProfileImageKey();
+    private CursorPage<PostListWrapper> createPostList(List<Integer> postIds, int size, PagingMode mode, int page) {
+        boolean hasNextCursor = postIds.size() > size;
+        List<Integer> pageIds = hasNextCursor ? postIds.subList(0, size) : postIds;
 
-            if (profileImageKey != null && !profileImageKey.isBlank()) {
-                post.getAuthor().setProfileImageKey(s3Service.createGETPresignedUrl(s3Property.getS3().getBucket(), profileImageKey));
-            }
-        });
+        List<PostListWrapper> posts = hydratePostList(pageIds);
+        setLikedIntoList(posts);
 
-        Integer nextCursor = hasNextCursor ? cursor + 1: null;
+        Integer nextCursor = null;
+        if (hasNextCursor) {
+            nextCursor = mode == PagingMode.OFFSET ? page + 1 : pageIds.getLast();
+        }
 
         return CursorPage.<PostListWrapper>builder()
                 .list(posts)
@@ -455,6 +604,60 @@ public class PostServiceImpl implements PostService {
                 .build();
     }
 
+    /**
+     * 게시글 id 목록으로 목록용 DTO를 채우는 메서드
+     * - 목록 API들이 공통으로 사용, 비용은 테이블 크기가 아니라 페이지 크기에 비례
+     * 1. id IN (...) 조회 한 번으로 게시글/작성자/카운터 조회
+     * 2. 전달받은 id 순서대로 정렬
+     * 3. 작성자 프로필 presigned url 발급
+     *
+     * @param postIds
+     * @return
+     */
+    private List<PostListWrapper> hydratePostList(List<Integer> postIds) {
+        if (postIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Integer, PostListWrapper> postsById = new HashMap<>();
+        postRepository.getPostsByIds(postIds)
+                .forEach(post -> postsById.put(post.getPost().getId(), post));
+
+        List<PostListWrapper> posts = new ArrayList<>(postIds.size());
+        for (Integer postId : postIds) {
+            PostListWrapper post = postsById.get(postId);
+            if (post != null) {
+                posts.add(post);
+            }
+        }
+
+        setAuthorImagesIntoList(posts);
+
+        return posts;
+    }
+
+    /**
+     * 게시글 목록 작성자 프로필 presigned url 발급하는 메서드
+     * - 같은 작성자의 게시글이 여러 개여도 키별로 한 번만 발급
+     *
+     * @param posts
+     */
+    private void setAuthorImagesIntoList(List<PostListWrapper> posts) {
+        Map<String, String> presignedUrls = s3Service.presignAll(
+                posts.stream().map(post -> post.getAuthor().getProfileImageKey()).toList()
+        );
+
+        posts.forEach(post -> {
+            String profileImageKey = post.getAuthor().getProfileImageKey();
+
+            if (profileImageKey == null || profileImageKey.isBlank()) {
+                return;
+            }
+
+            post.getAuthor().setProfileImageKey(presignedUrls.get(profileImageKey));
+        });
+    }
+
     /**
      * 부모 댓글과 함께 자식 댓글 최대 3개까지 담아 반환하는 메서드
      * - 댓글 더보기 기능을 위해 추가
@@ -495,12 +698,33 @@ public class PostServiceImpl implements PostService {
 
     /**
      * 부모 댓글 리스트를 받아서 각 부모에 대한 CommentThreadDto를 생성하는 메서드
+     * - 부모 수와 상관없이 자식 댓글 프리뷰는 쿼리 한 번으로 조회 후 메모리에서 부모별로 묶음
      */
     private List<CommentThreadDto> buildThreadsForParents(int postId, List<CommentDto> parents) {
         List<CommentThreadDto> threads = new ArrayList<>();
 
+        if (parents.isEmpty()) {
+            return threads;
+        }
+
+        List<Integer> parentIds = parents.stream()
+                .map(CommentDto::getId)
+                .toList();
+
+        List<CommentDto> children = commentRepository.getChildPreviews(postId, parentIds, CHILD_PREVIEW_SIZE);
+
+        // 자식 댓글 작성자 프로필 presigned 세팅
+        setImagesIntoList(children);
+
+        Map<Integer, List<CommentDto>> childrenByParent = children.stream()
+                .collect(Collectors.groupingBy(
+                        CommentDto::getParentId,
+                        Collectors.toCollection(ArrayList::new)
+                ));
+
         for (CommentDto parent : parents) {
-            CommentThreadDto thread = buildSingleThread(postId, parent);
+            List<CommentDto> preview = childrenByParent.getOrDefault(parent.getId(), new ArrayList<>());
+            CommentThreadDto thread = buildSingleThread(parent, preview);
             threads.add(thread);
         }
 
@@ -509,10 +733,10 @@ public class PostServiceImpl implements PostService {
 
     /**
      * 하나의 부모 댓글에 대한 CommentThreadDto를 만드는 메서드
-     * - 자식 댓글 프리뷰 로드 + hasMoreChildren / childNextCursor 세팅
+     * - hasMoreChildren / childNextCursor 세팅
      */
-    private CommentThreadDto buildSingleThread(int postId, CommentDto parent) {
-        ChildCommentPage childPage = loadChildPreview(postId, parent.getId());
+    private CommentThreadDto buildSingleThread(CommentDto parent, List<CommentDto> children) {
+        ChildCommentPage childPage = toChildPage(children);
 
         return CommentThreadDto.builder()
                 .parent(parent)
@@ -523,12 +747,10 @@ public class PostServiceImpl implements PostService {
     }
 
     /**
-     * 특정 부모 댓글에 대한 자식 댓글(대댓글) 프리뷰를 로드하는 메서드
-     * - 최대 CHILD_PREVIEW_SIZE + 1개 조회해서 hasMoreChildren 결정
+     * 특정 부모 댓글의 자식 댓글(대댓글) 프리뷰를 페이지로 만드는 메서드
+     * - 최대 CHILD_PREVIEW_SIZE + 1개 조회된 결과로 hasMoreChildren 결정
      */
-    private ChildCommentPage loadChildPreview(int postId, Integer parentId) {
-        List<CommentDto> children = commentRepository.getComments(postId, parentId, null, CHILD_PREVIEW_SIZE);
-
+    private ChildCommentPage toChildPage(List<CommentDto> children) {
         boolean hasMoreChildren = children.size() > CHILD_PREVIEW_SIZE;
         Integer childNextCursor = null;
 
@@ -537,9 +759,6 @@ public class PostServiceImpl implements PostService {
             childNextCursor = children.getLast().getId();
         }
 
-        // 자식 댓글 작성자 프로필 presigned 세팅
-        setImagesIntoList(children);
-
         return new ChildCommentPage(children, hasMoreChildren, childNextCursor);
     }
 
@@ -558,6 +777,10 @@ public class PostServiceImpl implements PostService {
     }
 
     private void setImagesIntoList(List<CommentDto> comments) {
+        Map<String, String> presignedUrls = s3Service.presignAll(
+                comments.stream().map(CommentDto::getProfileImageUrl).toList()
+        );
+
         comments.forEach(comment -> {
             String key = comment.getProfileImageUrl();
 
@@ -565,9 +788,7 @@ public class PostServiceImpl implements PostService {
                 return;
             }
 
-            comment.setProfileImageUrl(
-                    s3Service.createGETPresignedUrl(s3Property.getS3().getBucket(), key)
-            );
+            comment.setProfileImageUrl(presignedUrls.get(key));
         });
     }
 
@@ -0,0 +1,12 @@
+package boot.kakaotech.communitybe.user.dto;
+
+/**
+ * 이메일/닉네임만 읽는 projection
+ */
+public interface UserIdentifier {
+
+    String getEmail();
+
+    String getNickname();
+
+}
@@ -0,0 +1,255 @@
+package boot.kakaotech.communitybe.user.index;
+
+import boot.kakaotech.communitybe.common.properties.AvailabilityFilterProperty;
+import boot.kakaotech.communitybe.common.util.BloomFilter;
+import boot.kakaotech.communitybe.user.repository.UserRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * 이미 사용 중인 이메일/닉네임 Bloom filter (중복확인용 negative-only 힌트)
+ * - "없음"이 확실하면 DB를 조회하지 않고, "있을 수도 있음"이면 항상 exists 쿼리로 확인
+ * - 시작 시 user 테이블을 스트리밍해서 채우고, 이 인스턴스의 가입/닉네임 변경은 바로 추가
+ * - 다른 인스턴스의 가입은 알 수 없으므로 availability-filter.rebuild-interval-ms마다 새로 만들어 교체
+ *   (그 사이에는 다른 인스턴스에서 막 쓰인 값이 "사용 가능"으로 보일 수 있음, 실제 중복은 가입 시 unique key가 막음)
+ * - 교체하면서 바뀌기 전 닉네임처럼 더 이상 쓰이지 않는 값도 빠짐
+ * - 다 채워지기 전에는 항상 "있을 수도 있음"으로 답해서 DB로 넘김
+ * - 키는 컬럼 collation(utf8mb4_0900_ai_ci)에서 같다고 보는 문자열이 반드시 같은 키가 되도록 정규화
+ *   (키가 collation보다 더 많이 합쳐지는 건 "있을 수도 있음"이 늘어날 뿐이라 괜찮음)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TakenIdentifierIndex {
+
+    private static final Pattern IGNORABLE = Pattern.compile("[\\p{M}\\p{Cc}\\p{Cf}]+");
+    private static final Pattern TRAILING_SPACES = Pattern.compile("\\s+$");
+
+    // NFKD로 분해되지 않지만 악센트 무시 collation에서 기본 글자와 같게 취급되는 문자
+    private static final String[][] EXPANSIONS = {
+            {"æ", "ae"}, {"œ", "oe"}, {"ø", "o"}, {"đ", "d"}, {"ð", "d"}, {"ł", "l"},
+            {"ħ", "h"}, {"ŧ", "t"}, {"ı", "i"}, {"þ", "th"}, {"ŋ", "n"}, {"ĸ", "k"}
+    };
+
+    private final UserRepository userRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final AvailabilityFilterProperty property;
+
+    private final MeterRegistry meterRegistry;
+
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private volatile Filters current;
+    private volatile Filters building;
+
+    @PostConstruct
+    public void init() {
+        Gauge.builder("availability.filter.false-positive-rate", this, index -> index.falsePositiveRate(true))
+                .tag("field", "email")
+                .register(meterRegistry);
+        Gauge.builder("availability.filter.false-positive-rate", this, index -> index.falsePositiveRate(false))
+                .tag("field", "nickname")
+                .register(meterRegistry);
+        Gauge.builder("availability.filter.memory", this, TakenIdentifierIndex::memoryBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        rebuild();
+    }
+
+    /**
+     * user 테이블 전체 이메일/닉네임을 스트리밍해서 새 필터를 만들고 교체하는 메서드
+     * 1. 크기는 설정값과 현재 유저 수의 2배 중 큰 쪽 (유저가 늘어도 false positive 비율 유지)
+     * 2. 만드는 동안 들어온 가입/닉네임 변경은 지금 필터와 새 필터 양쪽에 추가
+     * 3. 스트리밍은 트랜잭션 안에서만 가능해서 TransactionTemplate 사용
+     * 4. 다 채우면 새 필터로 교체, 실패하면 지금 필터 유지
+     */
+    @Scheduled(
+            initialDelayString = "${availability-filter.rebuild-interval-ms}",
+            fixedDelayString = "${availability-filter.rebuild-interval-ms}"
+    )
+    public void rebuild() {
+        if (!rebuildLock.tryLock()) {
+            return;
+        }
+
+        try {
+            long start = System.nanoTime();
+            long expected = Math.max(property.getExpectedInsertions(), userRepository.count() * 2);
+            Filters next = new Filters(
+                    new BloomFilter(expected, property.getFalsePositiveRate()),
+                    new BloomFilter(expected, property.getFalsePositiveRate())
+            );
+            building = next;
+
+            transactionTemplate.executeWithoutResult(status -> {
+                try (var identifiers = userRepository.streamAllIdentifiers()) {
+                    identifiers.forEach(identifier -> {
+                        next.emails().put(normalize(identifier.getEmail()));
+                        next.nicknames().put(normalize(identifier.getNickname()));
+                    });
+                }
+            });
+
+            current = next;
+
+            log.info("[TakenIdentifierIndex] 필터 생성 완료 - users: {}, memory: {}KB, hashes: {}, fpp(email): {}, {}ms",
+                    next.emails().insertions(),
+                    next.memoryBytes() / 1024,
+                    next.emails().hashCount(),
+                    String.format("%.5f", next.emails().expectedFalsePositiveRate()),
+                    (System.nanoTime() - start) / 1_000_000);
+        } catch (Exception e) {
+            log.warn("[TakenIdentifierIndex] 필터 생성 실패, 이전 필터 유지 - {}", e.getMessage());
+        } finally {
+            building = null;
+            rebuildLock.unlock();
+        }
+    }
+
+    public void addEmail(String email) {
+        if (email != null) {
+            String key = normalize(email);
+            add(filters -> filters.emails().put(key));
+        }
+    }
+
+    public void addNickname(String nickname) {
+        if (nickname != null) {
+            String key = normalize(nickname);
+            add(filters -> filters.nicknames().put(key));
+        }
+    }
+
+    /**
+     * 사용 중일 수도 있는 이메일인지 확인하는 메서드
+     * false면 이 인스턴스가 아는 범위에서 사용 중이 아님, true면 DB로 확인해야 함
+     *
+     * @param email
+     * @return
+     */
+    public boolean mightBeTakenEmail(String email) {
+        Filters filters = current;
+        return record(filters == null || filters.emails().mightContain(normalize(email)), "email");
+    }
+
+    /**
+     * 사용 중일 수도 있는 닉네임인지 확인하는 메서드
+     * false면 이 인스턴스가 아는 범위에서 사용 중이 아님, true면 DB로 확인해야 함
+     *
+     * @param nickname
+     * @return
+     */
+    public boolean mightBeTakenNickname(String nickname) {
+        Filters filters = current;
+        return record(filters == null || filters.nicknames().mightContain(normalize(nickname)), "nickname");
+    }
+
+    /**
+     * collation에서 같은 값이 같은 키가 되도록 정규화하는 메서드
+     * 1. NFKD로 분해 (전각 문자, 합자, 악센트 분리)
+     * 2. 결합 문자, 제어/서식 문자(collation에서 무시되는 문자) 제거
+     * 3. 대문자로 바꾼 뒤 소문자로 (ß -> SS -> ss 처럼 글자 수가 바뀌는 대소문자 대응)
+     * 4. 분해되지 않는 악센트 문자를 기본 글자로, 끝 공백 제거 (PAD SPACE collation 대응)
+     *
+     * @param value
+     * @return
+     */
+    static String normalize(String value) {
+        String decomposed = Normalizer.normalize(value, Normalizer.Form.NFKD);
+        String folded = IGNORABLE.matcher(decomposed).replaceAll("")
+                .toUpperCase(Locale.ROOT)
+                .toLowerCase(Locale.ROOT);
+
+        for (String[] expansion : EXPANSIONS) {
+            folded = folded.replace(expansion[0], expansion[1]);
+        }
+
+        return TRAILING_SPACES.matcher(folded).replaceAll("");
+    }
+
+    private boolean record(boolean mightBeTaken, String field) {
+        meterRegistry.counter("availability.filter.checks", "field", field, "result", mightBeTaken ? "maybe" : "absent")
+                .increment();
+        return mightBeTaken;
+    }
+
+    /**
+     * 지금 필터와 만들고 있는 필터에 추가하는 메서드
+     * - 트랜잭션 안이면 커밋 이후에 한 번 더 추가
+     *   (커밋 전에 시작된 재생성 스트리밍은 이 row를 못 보므로, 커밋 후 추가가 새 필터에 들어가거나
+     *    그보다 늦게 시작된 스트리밍이 row를 읽음)
+     *
+     * @param action
+     */
+    private void add(Consumer<Filters> action) {
+        forEachFilters(action);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    forEachFilters(action);
+                }
+            });
+        }
+    }
+
+    private void forEachFilters(Consumer<Filters> action) {
+        Filters filters = current;
+        if (filters != null) {
+            action.accept(filters);
+        }
+
+        Filters next = building;
+        if (next != null && next != filters) {
+            action.accept(next);
+        }
+    }
+
+    private double falsePositiveRate(boolean email) {
+        Filters filters = current;
+        if (filters == null) {
+            return 0;
+        }
+
+        return (email ? filters.emails() : filters.nicknames()).expectedFalsePositiveRate();
+    }
+
+    private long memoryBytes() {
+        Filters filters = current;
+        Filters next = building;
+
+        return (filters == null ? 0 : filters.memoryBytes()) + (next == null || next == filters ? 0 : next.memoryBytes());
+    }
+
+    private record Filters(BloomFilter emails, BloomFilter nicknames) {
+
+        private long memoryBytes() {
+            return emails.memoryBytes() + nicknames.memoryBytes();
+        }
+
+    }
+
+}
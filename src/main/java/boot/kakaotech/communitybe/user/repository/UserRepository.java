@@ -1,10 +1,16 @@
 package boot.kakaotech.communitybe.user.repository;
 
+import boot.kakaotech.communitybe.user.dto.UserIdentifier;
 import boot.kakaotech.communitybe.user.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User,Integer> {
@@ -13,4 +19,18 @@ public interface UserRepository extends JpaRepository<User,Integer> {
 
     Optional<User> findByNickname(String nickname);
 
+    boolean existsByEmail(String email);
+
+    boolean existsByNickname(String nickname);
+
+    /**
+     * 전체 유저 이메일/닉네임 스트리밍 조회 (MySQL은 fetch size가 Integer.MIN_VALUE여야 한 행씩 읽음)
+     * 트랜잭션 안에서 호출하고 사용 후 close 해야 함
+     *
+     * @return
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("select u.email as email, u.nickname as nickname from User u")
+    Stream<UserIdentifier> streamAllIdentifiers();
+
 }
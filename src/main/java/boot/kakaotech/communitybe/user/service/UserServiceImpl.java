@@ -1,5 +1,6 @@
 package boot.kakaotech.communitybe.user.service;
 
+import boot.kakaotech.communitybe.auth.principal.PrincipalCache;
 import boot.kakaotech.communitybe.common.encoder.PasswordEncoder;
 import boot.kakaotech.communitybe.common.properties.S3Property;
 import boot.kakaotech.communitybe.common.s3.service.S3Service;
@@ -8,6 +9,7 @@ import boot.kakaotech.communitybe.common.validation.Validator;
 import boot.kakaotech.communitybe.user.dto.PasswordDto;
 import boot.kakaotech.communitybe.user.dto.SimpUserInfo;
 import boot.kakaotech.communitybe.user.entity.User;
+import boot.kakaotech.communitybe.user.index.TakenIdentifierIndex;
 import boot.kakaotech.communitybe.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,6 +28,8 @@ public class UserServiceImpl implements UserService {
     private final Validator validator;
     private final S3Service s3Service;
     private final S3Property s3Property;
+    private final PrincipalCache principalCache;
+    private final TakenIdentifierIndex takenIdentifierIndex;
 
     /**
      * 유저 프로필 정보 업데이트하는 메서드
@@ -42,6 +46,7 @@ public class UserServiceImpl implements UserService {
         User user = validator.validateUserInfo(requestUser, userInfo.getId());
 
         user.setNickname(userInfo.getName());
+        takenIdentifierIndex.addNickname(userInfo.getName());
         String presignedUrl = null;
         String profileImageUrl = userInfo.getProfileImageKey();
         if (profileImageUrl != null) {
@@ -51,6 +56,7 @@ public class UserServiceImpl implements UserService {
         }
 
         userRepository.save(user);
+        principalCache.invalidate(user.getId());
 
         return presignedUrl;
     }
@@ -69,6 +75,7 @@ public class UserServiceImpl implements UserService {
         User user = validator.validateNewPassword(requestUser, dto);
 
         user.setPassword(passwordEncoder.encode(dto.getNewPassword()));
+        principalCache.invalidate(user.getId());
     }
 
     @Override
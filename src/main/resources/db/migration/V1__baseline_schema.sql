@@ -0,0 +1,70 @@
+-- Flyway 도입 전 ddl-auto: update 로 만들어지던 스키마를 그대로 옮긴 baseline
+-- 이미 운영 중인 DB는 spring.flyway.baseline-on-migrate로 이 버전이 적용된 것으로 표시되고 실행되지 않으므로
+-- 이후 바뀐 스키마는 여기가 아니라 반드시 V2부터의 마이그레이션에 추가
+-- (운영 DB의 제약조건 이름은 Hibernate가 만든 임의 이름이라 이후 마이그레이션에서 V1의 제약조건 이름으로 참조하지 않음)
+
+CREATE TABLE `user` (
+    id                INT          NOT NULL AUTO_INCREMENT,
+    email             VARCHAR(255) NOT NULL,
+    password          VARCHAR(255) NOT NULL,
+    nickname          VARCHAR(12)  NOT NULL,
+    profile_image_key VARCHAR(255),
+    created_at        TIMESTAMP    NOT NULL,
+    deleted_at        TIMESTAMP    NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_user_email UNIQUE (email),
+    CONSTRAINT uk_user_nickname UNIQUE (nickname)
+) ENGINE = InnoDB;
+
+CREATE TABLE post (
+    id            INT         NOT NULL AUTO_INCREMENT,
+    user_id       INT,
+    title         VARCHAR(30) NOT NULL,
+    content       LONGTEXT,
+    view_count    INT         NOT NULL,
+    created_at    TIMESTAMP   NOT NULL,
+    deleted_at    TIMESTAMP   NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_post_user FOREIGN KEY (user_id) REFERENCES `user` (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE post_image (
+    id        INT          NOT NULL AUTO_INCREMENT,
+    post_id   INT,
+    image_key VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_post_image_post FOREIGN KEY (post_id) REFERENCES post (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE post_like (
+    id      INT NOT NULL AUTO_INCREMENT,
+    post_id INT,
+    user_id INT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_post_like_post FOREIGN KEY (post_id) REFERENCES post (id),
+    CONSTRAINT fk_post_like_user FOREIGN KEY (user_id) REFERENCES `user` (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE comment (
+    id                INT       NOT NULL AUTO_INCREMENT,
+    post_id           INT,
+    user_id           INT,
+    parent_comment_id INT,
+    content           TEXT      NOT NULL,
+    depth             TINYINT   NOT NULL,
+    created_at        TIMESTAMP NOT NULL,
+    deleted_at        TIMESTAMP NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_comment_post FOREIGN KEY (post_id) REFERENCES post (id),
+    CONSTRAINT fk_comment_user FOREIGN KEY (user_id) REFERENCES `user` (id),
+    CONSTRAINT fk_comment_parent FOREIGN KEY (parent_comment_id) REFERENCES comment (id)
+) ENGINE = InnoDB;
+
+-- Comment.replies(@OneToMany, mappedBy 없음)용 조인 테이블
+CREATE TABLE comment_replies (
+    comment_id INT NOT NULL,
+    replies_id INT NOT NULL,
+    CONSTRAINT uk_comment_replies_replies UNIQUE (replies_id),
+    CONSTRAINT fk_comment_replies_comment FOREIGN KEY (comment_id) REFERENCES comment (id),
+    CONSTRAINT fk_comment_replies_replies FOREIGN KEY (replies_id) REFERENCES comment (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,11 @@
+-- 같은 유저가 같은 게시글에 좋아요를 여러 번 누를 수 없도록 (post_id, user_id) unique key 추가
+-- 이전에는 중복 확인 후 insert라 동시 요청으로 중복 row가 생길 수 있었으므로, 먼저 가장 오래된 row 하나만 남기고 삭제
+
+DELETE duplicate
+FROM post_like duplicate
+JOIN post_like kept
+  ON kept.post_id = duplicate.post_id
+ AND kept.user_id = duplicate.user_id
+ AND kept.id < duplicate.id;
+
+ALTER TABLE post_like ADD CONSTRAINT uk_post_like_post_user UNIQUE (post_id, user_id);
@@ -0,0 +1,11 @@
+-- 게시글 좋아요/댓글 수를 조회마다 집계하지 않고 post에 저장
+-- 기존 게시글은 여기서 한 번 채우고, 이후 어긋난 값은 PostCounterScheduler가 보정
+-- (좋아요 수는 V2에서 중복을 지운 뒤의 row 수, 댓글 수는 삭제되지 않은 댓글 수)
+
+ALTER TABLE post
+    ADD COLUMN like_count    BIGINT NOT NULL DEFAULT 0 AFTER view_count,
+    ADD COLUMN comment_count BIGINT NOT NULL DEFAULT 0 AFTER like_count;
+
+UPDATE post p
+SET p.like_count    = (SELECT COUNT(*) FROM post_like pl WHERE pl.post_id = p.id),
+    p.comment_count = (SELECT COUNT(*) FROM comment c WHERE c.post_id = p.id AND c.deleted_at IS NULL);
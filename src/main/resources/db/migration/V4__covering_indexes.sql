@@ -0,0 +1,15 @@
+-- 자주 실행되는 조회 경로별 covering index
+
+-- 게시글 목록: WHERE deleted_at IS NULL ORDER BY created_at DESC, id DESC
+-- (작성자 조인용 user_id까지 포함해서 id 목록 조회가 인덱스 안에서 끝나도록)
+CREATE INDEX idx_post_feed ON post (deleted_at, created_at, id, user_id);
+
+-- 댓글 목록: WHERE post_id = ? AND parent_comment_id (= ? | IS NULL) AND deleted_at IS NULL AND id > ? ORDER BY id
+-- 자식 댓글 미리보기(부모별 상위 N개)도 같은 인덱스 사용
+CREATE INDEX idx_comment_thread ON comment (post_id, parent_comment_id, deleted_at, id);
+
+-- 유저별 좋아요 목록(LikedPostIndex 로딩), (post_id, user_id)는 uk_post_like_post_user가 담당
+CREATE INDEX idx_post_like_user_post ON post_like (user_id, post_id);
+
+-- 게시글 이미지 조회: SELECT image_key FROM post_image WHERE post_id = ?
+CREATE INDEX idx_post_image_post ON post_image (post_id, image_key);
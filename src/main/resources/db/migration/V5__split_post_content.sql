@@ -0,0 +1,17 @@
+-- 게시글 본문(LONGTEXT)을 post_content로 분리하고 post에는 목록용 excerpt만 남김
+-- post.content 컬럼 삭제는 모든 인스턴스가 이 버전으로 배포된 뒤 별도 마이그레이션에서 진행
+-- (롤링 배포 중 이전 버전 인스턴스가 아직 post.content를 읽고 쓰기 때문)
+
+CREATE TABLE post_content (
+    post_id INT NOT NULL,
+    content LONGTEXT,
+    PRIMARY KEY (post_id),
+    CONSTRAINT fk_post_content_post FOREIGN KEY (post_id) REFERENCES post (id)
+) ENGINE = InnoDB;
+
+INSERT INTO post_content (post_id, content)
+SELECT id, content FROM post;
+
+ALTER TABLE post ADD COLUMN excerpt VARCHAR(200) NULL AFTER title;
+
+UPDATE post SET excerpt = LEFT(content, 100) WHERE content IS NOT NULL;
@@ -0,0 +1,10 @@
+-- 조회수 저널 segment별 DB 반영 구간 기록 (재시작 시 같은 증가분을 두 번 반영하지 않기 위함)
+-- segment_key: 저널 id + segment 파일 이름, 구간은 chunk의 첫/마지막 post id (양 끝 포함)
+
+CREATE TABLE view_count_flush_log (
+    segment_key   VARCHAR(191) NOT NULL,
+    first_post_id INT          NOT NULL,
+    last_post_id  INT          NOT NULL,
+    created_at    TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (segment_key, first_post_id)
+) ENGINE = InnoDB;
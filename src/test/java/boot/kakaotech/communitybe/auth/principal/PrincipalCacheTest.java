@@ -0,0 +1,96 @@
+package boot.kakaotech.communitybe.auth.principal;
+
+import boot.kakaotech.communitybe.common.properties.JwtProperty;
+import boot.kakaotech.communitybe.user.entity.User;
+import boot.kakaotech.communitybe.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PrincipalCacheTest {
+
+    private static final int USER_ID = 1;
+
+    private UserRepository userRepository;
+    private PrincipalCache cache;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+
+        JwtProperty property = new JwtProperty();
+        property.setPrincipalCache(new JwtProperty.PrincipalCache());
+        property.getPrincipalCache().setMaxSize(16);
+        property.getPrincipalCache().setTtl(Duration.ofMinutes(5));
+
+        cache = new PrincipalCache(userRepository, property);
+        cache.init();
+    }
+
+    @Test
+    void loadsOnceAndServesLaterRequestsFromTheCache() {
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user("before", null)));
+
+        assertThat(cache.load(USER_ID).getNickname()).isEqualTo("before");
+        assertThat(cache.load(USER_ID).getNickname()).isEqualTo("before");
+
+        verify(userRepository, times(1)).findById(USER_ID);
+    }
+
+    @Test
+    void invalidateForcesAReload() {
+        when(userRepository.findById(USER_ID))
+                .thenReturn(Optional.of(user("before", null)))
+                .thenReturn(Optional.of(user("after", null)));
+        cache.load(USER_ID);
+
+        cache.invalidate(USER_ID);
+
+        assertThat(cache.load(USER_ID).getNickname()).isEqualTo("after");
+    }
+
+    @Test
+    void loadThatRacesWithAnInvalidateIsNotCached() {
+        // DB를 읽는 동안 탈퇴가 커밋되고 무효화됨 -> 읽은 스냅샷은 이미 낡음
+        when(userRepository.findById(USER_ID))
+                .thenAnswer(invocation -> {
+                    cache.invalidate(USER_ID);
+                    return Optional.of(user("before", null));
+                })
+                .thenReturn(Optional.of(user("before", LocalDateTime.now())));
+
+        assertThat(cache.load(USER_ID)).isNotNull();
+
+        // 낡은 스냅샷이 TTL 동안 남지 않고 다시 읽혀서 탈퇴한 유저로 거부됨
+        assertThat(cache.load(USER_ID)).isNull();
+        verify(userRepository, times(2)).findById(USER_ID);
+    }
+
+    @Test
+    void deletedUserIsRejected() {
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user("gone", LocalDateTime.now())));
+
+        assertThat(cache.load(USER_ID)).isNull();
+    }
+
+    private static User user(String nickname, LocalDateTime deletedAt) {
+        return User.builder()
+                .id(USER_ID)
+                .email("user@test.com")
+                .password("hash")
+                .nickname(nickname)
+                .createdAt(LocalDateTime.now())
+                .deletedAt(deletedAt)
+                .build();
+    }
+
+}
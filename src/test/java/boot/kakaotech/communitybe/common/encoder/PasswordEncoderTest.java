@@ -0,0 +1,72 @@
+package boot.kakaotech.communitybe.common.encoder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PasswordEncoderTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"password1234", "", "한글비밀번호입니다", "😀emoji-password"})
+    void pbkdf2MatchesSecretKeyFactory(String password) throws Exception {
+        Random random = new Random(42);
+
+        for (int iterations : new int[]{1, 2, 4097, 10_000}) {
+            byte[] salt = new byte[32];
+            random.nextBytes(salt);
+
+            byte[] expected = SecretKeyFactory.getInstance("PBKDF2WithHmacSHA256")
+                    .generateSecret(new PBEKeySpec(password.toCharArray(), salt, iterations, 256))
+                    .getEncoded();
+
+            assertThat(PasswordEncoder.pbkdf2(password, salt, iterations)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void pbkdf2StopsWhenInterrupted() throws Exception {
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread worker = new Thread(() -> {
+            try {
+                PasswordEncoder.pbkdf2("password1234", new byte[32], Integer.MAX_VALUE);
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+
+        worker.start();
+        TimeUnit.MILLISECONDS.sleep(100);
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(5));
+
+        assertThat(worker.isAlive()).isFalse();
+        assertThat(failure.get()).isInstanceOf(CancellationException.class);
+    }
+
+    @Test
+    void encodedPasswordMatchesOnlyTheOriginal() {
+        HashingExecutor executor = new HashingExecutor(1, 4, Duration.ofSeconds(10), new SimpleMeterRegistry());
+        try {
+            PasswordEncoder encoder = new PasswordEncoder(executor, 1_000);
+            String encoded = encoder.encode("password1234");
+
+            assertThat(encoder.matches("password1234", encoded)).isTrue();
+            assertThat(encoder.matches("password1235", encoded)).isFalse();
+            assertThat(encoder.needsRehash(encoded)).isFalse();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+}
@@ -0,0 +1,126 @@
+package boot.kakaotech.communitybe.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompactIntSetTest {
+
+    // 빈 집합: 객체 헤더 + keys/containers 배열 헤더
+    private static final long EMPTY_BYTES = 16 + 16 + 16;
+    // container 하나당 key(2) + 참조(4)
+    private static final long PER_CONTAINER_BYTES = 2 + 4;
+    private static final long BITMAP_BYTES = 16 + 16 + 1024 * 8;
+
+    @Test
+    void addAndRemoveReportWhetherTheSetChanged() {
+        CompactIntSet set = new CompactIntSet();
+
+        assertThat(set.add(5)).isTrue();
+        assertThat(set.add(5)).isFalse();
+        assertThat(set.contains(5)).isTrue();
+        assertThat(set.size()).isEqualTo(1);
+
+        assertThat(set.remove(5)).isTrue();
+        assertThat(set.remove(5)).isFalse();
+        assertThat(set.contains(5)).isFalse();
+        assertThat(set.size()).isZero();
+    }
+
+    @Test
+    void arrayContainerTurnsIntoBitmapAboveTheLimitAndBackBelowHalf() {
+        CompactIntSet set = new CompactIntSet();
+        for (int value = 0; value <= 4096; value++) {
+            set.add(value);
+        }
+
+        assertThat(set.size()).isEqualTo(4097);
+        assertThat(set.memoryBytes()).isEqualTo(EMPTY_BYTES + PER_CONTAINER_BYTES + BITMAP_BYTES);
+
+        for (int value = 4096; value > 2048; value--) {
+            set.remove(value);
+        }
+        assertThat(set.size()).isEqualTo(2049);
+        assertThat(set.memoryBytes()).isEqualTo(EMPTY_BYTES + PER_CONTAINER_BYTES + BITMAP_BYTES);
+
+        set.remove(2048);
+
+        // bitmap -> 정렬 배열(용량 2048)로 되돌아감
+        assertThat(set.size()).isEqualTo(2048);
+        assertThat(set.memoryBytes()).isEqualTo(EMPTY_BYTES + PER_CONTAINER_BYTES + 16 + 16 + 2048 * 2);
+        for (int value = 0; value < 2048; value++) {
+            assertThat(set.contains(value)).isTrue();
+        }
+        assertThat(set.contains(2048)).isFalse();
+    }
+
+    @Test
+    void bitmapKeepsMembershipAcrossTheTransition() {
+        CompactIntSet set = new CompactIntSet();
+        for (int value = 0; value < 10_000; value += 2) {
+            set.add(value);
+        }
+
+        assertThat(set.size()).isEqualTo(5_000);
+        assertThat(set.contains(9_998)).isTrue();
+        assertThat(set.contains(9_999)).isFalse();
+
+        assertThat(set.add(9_999)).isTrue();
+        assertThat(set.remove(0)).isTrue();
+        assertThat(set.contains(9_999)).isTrue();
+        assertThat(set.contains(0)).isFalse();
+        assertThat(set.size()).isEqualTo(5_000);
+    }
+
+    @Test
+    void valuesInDifferentHighBitsGetTheirOwnContainer() {
+        CompactIntSet set = new CompactIntSet();
+        set.add(1);
+        set.add(65_537);
+        set.add(Integer.MAX_VALUE);
+
+        assertThat(set.contains(1)).isTrue();
+        assertThat(set.contains(65_537)).isTrue();
+        assertThat(set.contains(Integer.MAX_VALUE)).isTrue();
+        assertThat(set.contains(65_536)).isFalse();
+        // 작은 배열 container(용량 4) 세 개
+        assertThat(set.memoryBytes()).isEqualTo(EMPTY_BYTES + 3 * PER_CONTAINER_BYTES + 3 * (16 + 16 + 4 * 2));
+    }
+
+    @Test
+    void removingTheLastValueOfAContainerDropsTheContainer() {
+        CompactIntSet set = new CompactIntSet();
+        set.add(70_000);
+        set.remove(70_000);
+
+        assertThat(set.size()).isZero();
+        assertThat(set.memoryBytes()).isEqualTo(EMPTY_BYTES);
+    }
+
+    @Test
+    void behavesLikeHashSetUnderRandomOperations() {
+        Random random = new Random(7);
+        CompactIntSet set = new CompactIntSet();
+        Set<Integer> expected = new HashSet<>();
+
+        for (int i = 0; i < 200_000; i++) {
+            // 0~2^17 범위에 몰아서 container 전환이 여러 번 일어나게 함
+            int value = random.nextInt(1 << 17);
+            if (random.nextInt(3) == 0) {
+                assertThat(set.remove(value)).isEqualTo(expected.remove(value));
+            } else {
+                assertThat(set.add(value)).isEqualTo(expected.add(value));
+            }
+        }
+
+        assertThat(set.size()).isEqualTo(expected.size());
+        for (int value = 0; value < 1 << 17; value++) {
+            assertThat(set.contains(value)).isEqualTo(expected.contains(value));
+        }
+    }
+
+}
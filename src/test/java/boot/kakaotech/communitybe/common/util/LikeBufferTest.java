@@ -0,0 +1,60 @@
+package boot.kakaotech.communitybe.common.util;
+
+import boot.kakaotech.communitybe.common.properties.LikeProperty;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LikeBufferTest {
+
+    private LikeBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        LikeProperty.WriteBehind writeBehind = new LikeProperty.WriteBehind();
+        writeBehind.setEnabled(true);
+        writeBehind.setMaxBufferSize(2);
+
+        LikeProperty property = new LikeProperty();
+        property.setWriteBehind(writeBehind);
+
+        buffer = new LikeBuffer(property);
+    }
+
+    @Test
+    void newKeyIsRejectedWhenTheBufferIsFull() {
+        assertThat(buffer.record(1, 1, true)).isTrue();
+        assertThat(buffer.record(1, 2, true)).isTrue();
+
+        assertThat(buffer.record(1, 3, true)).isFalse();
+        assertThat(buffer.pendingIntent(1, 3)).isNull();
+        assertThat(buffer.size()).isEqualTo(2);
+        assertThat(buffer.getOverflowCount()).isEqualTo(1);
+    }
+
+    @Test
+    void existingKeyIsStillOverwrittenWhenTheBufferIsFull() {
+        buffer.record(1, 1, true);
+        buffer.record(1, 2, true);
+
+        assertThat(buffer.record(1, 1, false)).isTrue();
+        assertThat(buffer.pendingIntent(1, 1)).isFalse();
+        assertThat(buffer.size()).isEqualTo(2);
+        assertThat(buffer.getOverflowCount()).isZero();
+    }
+
+    @Test
+    void unflushedIntentsKeepCountingUntilReleased() {
+        buffer.record(1, 1, true);
+        buffer.record(1, 2, false);
+
+        // flush 실패: snapshot만 뜨고 release하지 않음
+        buffer.snapshot();
+        assertThat(buffer.record(2, 1, true)).isFalse();
+
+        buffer.release(LikeBuffer.toKey(1, 1), true);
+        assertThat(buffer.record(2, 1, true)).isTrue();
+    }
+
+}
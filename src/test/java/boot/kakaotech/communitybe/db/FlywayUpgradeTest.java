@@ -0,0 +1,95 @@
+package boot.kakaotech.communitybe.db;
+
+import boot.kakaotech.communitybe.support.MySqlRepositoryTest;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Flyway 도입 전(ddl-auto: update) 운영 DB가 baseline-on-migrate로 올라올 때 V2~가 모두 적용되는지 검증
+ * - 별도 database에 V1 스키마만 만들고 flyway_schema_history를 지워서 Flyway 도입 전 상태를 흉내냄
+ * - 도입 전에는 unique key가 없어서 생길 수 있던 중복 좋아요, 카운터 컬럼이 없던 게시글을 넣고 application.yml과 같은 설정으로 migrate
+ * - database를 새로 만들어야 해서 root 계정 사용 (MySQLContainer는 root 비밀번호를 유저 비밀번호와 같게 설정)
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class FlywayUpgradeTest extends MySqlRepositoryTest {
+
+    private static final String DATABASE = "legacy_upgrade";
+
+    private JdbcTemplate root;
+    private JdbcTemplate legacy;
+    private DriverManagerDataSource legacyDataSource;
+
+    @BeforeEach
+    void setUp() {
+        root = new JdbcTemplate(new DriverManagerDataSource(MYSQL.getJdbcUrl(), "root", MYSQL.getPassword()));
+        root.execute("DROP DATABASE IF EXISTS " + DATABASE);
+        root.execute("CREATE DATABASE " + DATABASE);
+
+        legacyDataSource = new DriverManagerDataSource(
+                MYSQL.getJdbcUrl().replace("/" + MYSQL.getDatabaseName(), "/" + DATABASE), "root", MYSQL.getPassword());
+        legacy = new JdbcTemplate(legacyDataSource);
+
+        Flyway.configure()
+                .dataSource(legacyDataSource)
+                .locations("classpath:db/migration")
+                .target("1")
+                .load()
+                .migrate();
+        legacy.execute("DROP TABLE flyway_schema_history");
+    }
+
+    @AfterEach
+    void tearDown() {
+        root.execute("DROP DATABASE IF EXISTS " + DATABASE);
+    }
+
+    @Test
+    void existingDatabaseIsBaselinedAndGetsEveryLaterMigration() {
+        legacy.update("INSERT INTO `user` (id, email, password, nickname, created_at) VALUES (1, 'a@test.com', 'pw', 'a', NOW())");
+        legacy.update("INSERT INTO `user` (id, email, password, nickname, created_at) VALUES (2, 'b@test.com', 'pw', 'b', NOW())");
+        legacy.update("INSERT INTO post (id, user_id, title, content, view_count, created_at) VALUES (1, 1, 't', 'body', 0, NOW())");
+        legacy.update("INSERT INTO post (id, user_id, title, content, view_count, created_at) VALUES (2, 1, 't', NULL, 0, NOW())");
+
+        // 동시 요청으로 생긴 중복 좋아요
+        legacy.update("INSERT INTO post_like (id, post_id, user_id) VALUES (1, 1, 1), (2, 1, 1), (3, 1, 2), (4, 1, 1)");
+        legacy.update("INSERT INTO comment (post_id, user_id, content, depth, created_at) VALUES (1, 1, 'c', 0, NOW())");
+        legacy.update("INSERT INTO comment (post_id, user_id, content, depth, created_at, deleted_at) VALUES (1, 2, 'c', 0, NOW(), NOW())");
+
+        Flyway.configure()
+                .dataSource(legacyDataSource)
+                .locations("classpath:db/migration")
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load()
+                .migrate();
+
+        List<String> versions = legacy.queryForList(
+                "SELECT version FROM flyway_schema_history WHERE success = 1 ORDER BY installed_rank", String.class);
+        assertThat(versions).containsExactly("1", "2", "3", "4", "5", "6");
+
+        assertThat(legacy.queryForList("SELECT id FROM post_like ORDER BY id", Integer.class)).containsExactly(1, 3);
+        assertThat(legacy.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.table_constraints " +
+                        "WHERE table_schema = ? AND table_name = 'post_like' AND constraint_name = 'uk_post_like_post_user'",
+                Integer.class, DATABASE)).isEqualTo(1);
+
+        Map<String, Object> counters = legacy.queryForMap("SELECT like_count, comment_count FROM post WHERE id = 1");
+        assertThat(((Number) counters.get("like_count")).longValue()).isEqualTo(2);
+        assertThat(((Number) counters.get("comment_count")).longValue()).isEqualTo(1);
+
+        assertThat(legacy.queryForObject("SELECT content FROM post_content WHERE post_id = 1", String.class)).isEqualTo("body");
+        assertThat(legacy.queryForObject("SELECT COUNT(*) FROM post_content", Integer.class)).isEqualTo(2);
+    }
+
+}
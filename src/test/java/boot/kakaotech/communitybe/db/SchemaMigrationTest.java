@@ -0,0 +1,250 @@
+package boot.kakaotech.communitybe.db;
+
+import boot.kakaotech.communitybe.comment.repository.CommentRepository;
+import boot.kakaotech.communitybe.post.repository.PostLikeRepository;
+import boot.kakaotech.communitybe.post.repository.PostRepository;
+import boot.kakaotech.communitybe.support.MySqlRepositoryTest;
+import boot.kakaotech.communitybe.support.SqlCapture;
+import boot.kakaotech.communitybe.support.TestRows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Flyway 마이그레이션(V1~)과 엔티티 매핑, 자주 실행되는 쿼리의 실행 계획 검증
+ * - ddl-auto=validate로 띄워서 마이그레이션된 스키마와 Hibernate 매핑이 다르면 컨텍스트 로딩에서 실패
+ * - 리포지토리 메서드를 실제로 호출하고 SqlCapture로 잡은 SQL(바인딩된 파라미터 포함)을 EXPLAIN
+ *   (손으로 옮긴 SQL이 아니라 QueryDSL/Hibernate가 만든 SQL을 검증하므로 쿼리가 바뀌면 같이 검증됨)
+ * - V4 covering index를 실제로 타는지 EXPLAIN의 key / Extra로 확인 (full scan, filesort 없음)
+ * - 통계를 갱신하려면 ANALYZE TABLE(암묵적 커밋)이 필요해서 테스트 트랜잭션 없이 실행하고 직접 정리
+ */
+@TestPropertySource(properties = "spring.jpa.hibernate.ddl-auto=validate")
+@Import(SqlCapture.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SchemaMigrationTest extends MySqlRepositoryTest {
+
+    private static final int USERS = 64;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SqlCapture sqlCapture;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostLikeRepository postLikeRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private final List<Integer> userIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < USERS; i++) {
+            userIds.add(TestRows.insertUser(jdbcTemplate, "schema-" + i));
+        }
+
+        // 게시글 1024개를 유저들에게 나눠주고 일부는 삭제 상태로
+        int owner = userIds.get(0);
+        TestRows.fillPosts(jdbcTemplate, owner, 10);
+        for (int i = 1; i < USERS; i++) {
+            jdbcTemplate.update("UPDATE post SET user_id = ? WHERE user_id = ? AND id % ? = ?", userIds.get(i), owner, USERS, i);
+        }
+        jdbcTemplate.update("UPDATE post SET deleted_at = NOW() WHERE id % 10 = 0 AND user_id IN (" + userIdList() + ")");
+
+        jdbcTemplate.update("INSERT INTO post_like (post_id, user_id) SELECT id, user_id FROM post WHERE user_id IN (" + userIdList() + ")");
+        jdbcTemplate.update("INSERT INTO post_image (post_id, image_key) SELECT id, CONCAT('images/', id) FROM post WHERE user_id IN (" + userIdList() + ")");
+        for (int i = 0; i < 8; i++) {
+            jdbcTemplate.update(
+                    "INSERT INTO comment (post_id, user_id, parent_comment_id, content, depth, created_at) " +
+                            "SELECT id, user_id, NULL, 'comment', 0, NOW() FROM post WHERE user_id IN (" + userIdList() + ")"
+            );
+        }
+        for (int i = 0; i < 4; i++) {
+            jdbcTemplate.update(
+                    "INSERT INTO comment (post_id, user_id, parent_comment_id, content, depth, created_at) " +
+                            "SELECT post_id, user_id, id, 'reply', 1, NOW() FROM comment " +
+                            "WHERE depth = 0 AND user_id IN (" + userIdList() + ")"
+            );
+        }
+
+        jdbcTemplate.execute("ANALYZE TABLE post, post_like, post_image, comment");
+    }
+
+    @AfterEach
+    void tearDown() {
+        String users = userIdList();
+        jdbcTemplate.update("DELETE FROM comment WHERE depth > 0 AND user_id IN (" + users + ")");
+        jdbcTemplate.update("DELETE FROM comment WHERE user_id IN (" + users + ")");
+        jdbcTemplate.update("DELETE FROM post_image WHERE post_id IN (SELECT id FROM post WHERE user_id IN (" + users + "))");
+        jdbcTemplate.update("DELETE FROM post_like WHERE user_id IN (" + users + ")");
+        jdbcTemplate.update("DELETE FROM post_content WHERE post_id IN (SELECT id FROM post WHERE user_id IN (" + users + "))");
+        jdbcTemplate.update("DELETE FROM post WHERE user_id IN (" + users + ")");
+        jdbcTemplate.update("DELETE FROM `user` WHERE id IN (" + users + ")");
+        userIds.clear();
+    }
+
+    @Test
+    void everyMigrationIsAppliedAndMatchesTheEntityMapping() {
+        List<String> versions = jdbcTemplate.queryForList(
+                "SELECT version FROM flyway_schema_history WHERE success = 1 AND version IS NOT NULL ORDER BY installed_rank",
+                String.class
+        );
+
+        // 컨텍스트가 ddl-auto=validate로 떴다는 것 자체가 매핑 검증
+        assertThat(versions).containsExactly("1", "2", "3", "4", "5", "6");
+    }
+
+    @Test
+    void feedUsesTheFeedIndexWithoutFilesort() {
+        sqlCapture.clear();
+        postRepository.getPostIdsUsingFetch(PageRequest.of(0, 20));
+
+        List<Map<String, Object>> plan = explain(sqlCapture.last("order by"));
+
+        rowUsing(plan, "idx_post_feed");
+        assertNoFullScanOrFilesort(plan);
+    }
+
+    @Test
+    void keysetPageUsesTheFeedIndexWithoutFilesort() {
+        int cursorId = jdbcTemplate.queryForObject(
+                "SELECT id FROM post WHERE user_id IN (" + userIdList() + ") ORDER BY id LIMIT 1 OFFSET 500", Integer.class);
+
+        sqlCapture.clear();
+        postRepository.getPostIdsUsingKeyset(cursorId, 20);
+
+        List<Map<String, Object>> plan = explain(sqlCapture.last("order by"));
+
+        rowUsing(plan, "idx_post_feed");
+        assertNoFullScanOrFilesort(plan);
+    }
+
+    @Test
+    void feedPageIsFilledByPrimaryKeyLookups() {
+        List<Integer> postIds = jdbcTemplate.queryForList(
+                "SELECT id FROM post WHERE user_id IN (" + userIdList() + ") ORDER BY id LIMIT 20", Integer.class);
+
+        sqlCapture.clear();
+        postRepository.getPostsByIds(postIds);
+
+        List<Map<String, Object>> plan = explain(sqlCapture.last("from post"));
+
+        rowUsing(plan, "PRIMARY");
+        assertNoFullScanOrFilesort(plan);
+    }
+
+    @Test
+    void postDetailIsAPrimaryKeyLookup() {
+        sqlCapture.clear();
+        postRepository.getPostById(firstPostId());
+
+        List<Map<String, Object>> plan = explain(sqlCapture.last("from post"));
+
+        rowUsing(plan, "PRIMARY");
+        assertNoFullScanOrFilesort(plan);
+    }
+
+    @Test
+    void commentThreadUsesTheThreadIndexWithoutFilesort() {
+        sqlCapture.clear();
+        commentRepository.getComments(firstPostId(), 0, null, 10);
+
+        List<Map<String, Object>> plan = explain(sqlCapture.last("from comment"));
+
+        rowUsing(plan, "idx_comment_thread");
+        assertNoFullScanOrFilesort(plan);
+    }
+
+    @Test
+    void childPreviewsUseTheThreadIndex() {
+        int postId = firstPostId();
+        List<Integer> parentIds = jdbcTemplate.queryForList(
+                "SELECT id FROM comment WHERE post_id = ? AND parent_comment_id IS NULL ORDER BY id LIMIT 10", Integer.class, postId);
+
+        sqlCapture.clear();
+        commentRepository.getChildPreviews(postId, parentIds, 3);
+
+        List<Map<String, Object>> plan = explain(sqlCapture.last("row_number"));
+
+        // 윈도우 함수 결과(derived table)는 부모별 최대 N+1개라 정렬/스캔 대상에서 제외하고 실제 테이블 접근만 확인
+        rowUsing(plan, "idx_comment_thread");
+        assertThat(plan)
+                .filteredOn(row -> !String.valueOf(row.get("table")).startsWith("<derived"))
+                .allSatisfy(row -> assertThat(row.get("type")).as("access type - %s", row).isNotEqualTo("ALL"));
+    }
+
+    @Test
+    void likedPostsOfAUserAreServedFromTheCoveringIndex() {
+        sqlCapture.clear();
+        postLikeRepository.findPostIdsByUserId(userIds.get(0));
+
+        List<Map<String, Object>> plan = explain(sqlCapture.last("from post_like"));
+
+        assertThat(String.valueOf(rowUsing(plan, "idx_post_like_user_post").get("Extra"))).contains("Using index");
+        assertNoFullScanOrFilesort(plan);
+    }
+
+    @Test
+    void postImagesAreServedFromTheCoveringIndex() {
+        sqlCapture.clear();
+        postRepository.getImages(firstPostId());
+
+        List<Map<String, Object>> plan = explain(sqlCapture.last("from post_image"));
+
+        assertThat(String.valueOf(rowUsing(plan, "idx_post_image_post").get("Extra"))).contains("Using index");
+        assertNoFullScanOrFilesort(plan);
+    }
+
+    /**
+     * Hibernate가 실제로 실행한 SQL을 같은 파라미터로 EXPLAIN 하는 메서드
+     *
+     * @param captured
+     * @return
+     */
+    private List<Map<String, Object>> explain(SqlCapture.CapturedSql captured) {
+        return jdbcTemplate.queryForList("EXPLAIN " + captured.sql(), captured.arguments());
+    }
+
+    // 생성된 SQL의 테이블 별칭(p1_0 등)은 Hibernate가 정하므로 테이블 대신 사용한 인덱스로 row를 찾음
+    private static Map<String, Object> rowUsing(List<Map<String, Object>> plan, String key) {
+        return plan.stream()
+                .filter(row -> key.equals(row.get("key")))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("no plan row using " + key + " - " + plan));
+    }
+
+    private static void assertNoFullScanOrFilesort(List<Map<String, Object>> plan) {
+        assertThat(plan).allSatisfy(row -> {
+            assertThat(row.get("type")).as("access type - %s", row).isNotEqualTo("ALL");
+            assertThat(String.valueOf(row.get("Extra"))).as("extra - %s", row).doesNotContain("filesort");
+        });
+    }
+
+    private int firstPostId() {
+        return jdbcTemplate.queryForObject(
+                "SELECT MIN(id) FROM post WHERE user_id IN (" + userIdList() + ") AND deleted_at IS NULL", Integer.class);
+    }
+
+    private String userIdList() {
+        return String.join(",", userIds.stream().map(String::valueOf).toList());
+    }
+
+}
@@ -0,0 +1,101 @@
+package boot.kakaotech.communitybe.post.index;
+
+import boot.kakaotech.communitybe.common.properties.LikeProperty;
+import boot.kakaotech.communitybe.post.repository.PostLikeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LikedPostIndexTest {
+
+    private static final int USER_ID = 1;
+
+    private PostLikeRepository postLikeRepository;
+    private LikedPostIndex index;
+
+    @BeforeEach
+    void setUp() {
+        postLikeRepository = mock(PostLikeRepository.class);
+
+        LikeProperty property = new LikeProperty();
+        property.setIndex(new LikeProperty.Index());
+        property.getIndex().setMemoryBudgetBytes(1 << 20);
+
+        index = new LikedPostIndex(postLikeRepository, property, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void loadsOnceAndServesLaterReadsFromTheCache() {
+        when(postLikeRepository.findPostIdsByUserId(USER_ID)).thenReturn(List.of(3, 5));
+
+        assertThat(index.likedAmong(USER_ID, List.of(3, 4, 5))).containsExactlyInAnyOrder(3, 5);
+        assertThat(index.isLiked(USER_ID, 4)).isFalse();
+
+        verify(postLikeRepository, times(1)).findPostIdsByUserId(USER_ID);
+    }
+
+    @Test
+    void updatesAreAppliedToACachedUser() {
+        when(postLikeRepository.findPostIdsByUserId(USER_ID)).thenReturn(List.of(3));
+        index.isLiked(USER_ID, 3);
+
+        index.update(USER_ID, 4, true);
+        index.update(USER_ID, 3, false);
+
+        assertThat(index.likedAmong(USER_ID, List.of(3, 4))).containsExactly(4);
+        verify(postLikeRepository, times(1)).findPostIdsByUserId(USER_ID);
+    }
+
+    @Test
+    void loadThatRacesWithAnUpdateIsNotCached() {
+        // DB를 읽는 동안 같은 유저의 좋아요가 커밋됨 -> 읽은 목록(7 없음)은 이미 낡음
+        when(postLikeRepository.findPostIdsByUserId(USER_ID))
+                .thenAnswer(invocation -> {
+                    index.update(USER_ID, 7, true);
+                    return List.of(3);
+                })
+                .thenReturn(List.of(3, 7));
+
+        assertThat(index.isLiked(USER_ID, 7)).isFalse();
+
+        // 낡은 결과가 캐시에 들어가지 않았으므로 다시 읽어서 7이 보임
+        assertThat(index.isLiked(USER_ID, 7)).isTrue();
+        verify(postLikeRepository, times(2)).findPostIdsByUserId(USER_ID);
+    }
+
+    @Test
+    void updateForAnotherStripeDoesNotBlockCaching() {
+        when(postLikeRepository.findPostIdsByUserId(USER_ID))
+                .thenAnswer(invocation -> {
+                    index.update(USER_ID + 1, 7, true);
+                    return List.of(3);
+                });
+
+        index.isLiked(USER_ID, 3);
+        index.isLiked(USER_ID, 3);
+
+        verify(postLikeRepository, times(1)).findPostIdsByUserId(USER_ID);
+    }
+
+    @Test
+    void invalidatedUserIsReloaded() {
+        when(postLikeRepository.findPostIdsByUserId(USER_ID))
+                .thenReturn(List.of(3))
+                .thenReturn(List.of(3, 9));
+        index.isLiked(USER_ID, 3);
+
+        index.invalidate(USER_ID);
+
+        assertThat(index.isLiked(USER_ID, 9)).isTrue();
+        verify(postLikeRepository, times(2)).findPostIdsByUserId(USER_ID);
+    }
+
+}
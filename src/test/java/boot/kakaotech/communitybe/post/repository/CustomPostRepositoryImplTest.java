@@ -0,0 +1,59 @@
+package boot.kakaotech.communitybe.post.repository;
+
+import boot.kakaotech.communitybe.support.MySqlRepositoryTest;
+import boot.kakaotech.communitybe.support.TestRows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CustomPostRepositoryImplTest extends MySqlRepositoryTest {
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private List<Integer> ids;
+
+    @BeforeEach
+    void setUp() {
+        int userId = TestRows.insertUser(jdbcTemplate, "cursor");
+        ids = TestRows.insertPosts(jdbcTemplate, userId, 10);
+    }
+
+    @Test
+    void keysetContinuesAfterSoftDeletedCursorPost() {
+        int cursor = ids.get(5);
+        jdbcTemplate.update("UPDATE post SET deleted_at = NOW() WHERE id = ?", cursor);
+
+        List<Integer> page = postRepository.getPostIdsUsingKeyset(cursor, 3);
+
+        assertThat(page).containsExactly(ids.get(4), ids.get(3), ids.get(2), ids.get(1));
+    }
+
+    @Test
+    void keysetFallsBackToIdWhenCursorPostIsMissing() {
+        int cursor = ids.get(5);
+        jdbcTemplate.update("DELETE FROM post WHERE id = ?", cursor);
+
+        List<Integer> page = postRepository.getPostIdsUsingKeyset(cursor, 3);
+
+        assertThat(page).containsExactly(ids.get(4), ids.get(3), ids.get(2), ids.get(1));
+    }
+
+    @Test
+    void keysetPagesContinueWhereThePreviousPageEnded() {
+        List<Integer> firstPage = postRepository.getPostIdsUsingKeyset(null, 4);
+        List<Integer> nextPage = postRepository.getPostIdsUsingKeyset(firstPage.get(3), 4);
+
+        assertThat(firstPage).containsExactly(ids.get(9), ids.get(8), ids.get(7), ids.get(6), ids.get(5));
+        assertThat(nextPage).startsWith(ids.get(5), ids.get(4), ids.get(3), ids.get(2));
+    }
+
+}
@@ -0,0 +1,76 @@
+package boot.kakaotech.communitybe.post.repository;
+
+import boot.kakaotech.communitybe.support.MySqlRepositoryTest;
+import boot.kakaotech.communitybe.support.TestRows;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 목록 offset 페이징과 keyset 페이징을 깊은 페이지에서 비교하는 측정
+ * - 게시글 2^17개(약 13만)를 채우고 같은 페이지를 두 방식으로 조회해 중앙값 지연시간을 로그로 남김
+ * - 두 방식의 결과가 같은지만 검증하고 시간은 환경마다 다르므로 단언하지 않음
+ * - ./gradlew benchmarkTest 로 실행
+ */
+@Tag("benchmark")
+class FeedPagingBenchmarkTest extends MySqlRepositoryTest {
+
+    private static final Logger log = LoggerFactory.getLogger(FeedPagingBenchmarkTest.class);
+
+    private static final int PAGE_SIZE = 20;
+    private static final int WARMUP = 5;
+    private static final int ROUNDS = 30;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void compareOffsetAndKeysetOnDeepPages() {
+        int userId = TestRows.insertUser(jdbcTemplate, "bench");
+        TestRows.fillPosts(jdbcTemplate, userId, 17);
+        jdbcTemplate.execute("ANALYZE TABLE post");
+
+        for (int page : new int[]{1, 100, 1000, 5000}) {
+            List<Integer> previous = postRepository.getPostIdsUsingFetch(PageRequest.of(page - 1, PAGE_SIZE));
+            int cursor = previous.get(PAGE_SIZE - 1);
+
+            Supplier<List<Integer>> offset = () -> postRepository.getPostIdsUsingFetch(PageRequest.of(page, PAGE_SIZE));
+            Supplier<List<Integer>> keyset = () -> postRepository.getPostIdsUsingKeyset(cursor, PAGE_SIZE);
+
+            assertThat(keyset.get()).isEqualTo(offset.get());
+
+            log.info("page {} (offset {}): offset {} us, keyset {} us",
+                    page, page * PAGE_SIZE, medianMicros(offset), medianMicros(keyset));
+        }
+    }
+
+    private static long medianMicros(Supplier<List<Integer>> query) {
+        for (int i = 0; i < WARMUP; i++) {
+            query.get();
+        }
+
+        long[] samples = new long[ROUNDS];
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            query.get();
+            samples[i] = (System.nanoTime() - start) / 1_000;
+        }
+
+        Arrays.sort(samples);
+        return samples[ROUNDS / 2];
+    }
+
+}
@@ -0,0 +1,141 @@
+package boot.kakaotech.communitybe.post.repository;
+
+import boot.kakaotech.communitybe.common.properties.PostProperty;
+import boot.kakaotech.communitybe.support.MySqlRepositoryTest;
+import boot.kakaotech.communitybe.support.TestRows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 롤링 배포 중 이전 버전 인스턴스와 post.content를 같이 쓰는 상황 검증
+ * - 조회는 post_content row가 있으면 그것만 읽고, 이전 버전이 쓴 본문은 backfill(id 범위)로만 옮김
+ * - 테스트 트랜잭션 없이 실행하고 직접 정리
+ */
+@Import(PostContentStore.class)
+@TestPropertySource(properties = "post.content.legacy-column=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PostContentStoreTest extends MySqlRepositoryTest {
+
+    @Autowired
+    private PostContentStore postContentStore;
+
+    @Autowired
+    private PostProperty postProperty;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private int userId;
+    private int postId;
+
+    @BeforeEach
+    void setUp() {
+        // 이전 버전 인스턴스가 만든 게시글: post.content만 있고 post_content row와 excerpt는 없음
+        userId = TestRows.insertUser(jdbcTemplate, "content");
+        postId = TestRows.insertPosts(jdbcTemplate, userId, 1).get(0);
+        jdbcTemplate.update("UPDATE post SET content = ?, excerpt = NULL WHERE id = ?", "legacy body", postId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        postProperty.getContent().setLegacyColumn(true);
+        jdbcTemplate.update("DELETE FROM post_content WHERE post_id = ?", postId);
+        jdbcTemplate.update("DELETE FROM post WHERE id = ?", postId);
+        jdbcTemplate.update("DELETE FROM `user` WHERE id = ?", userId);
+    }
+
+    @Test
+    void missingRowFallsBackToLegacyColumnWithoutWriting() {
+        assertThat(postContentStore.read(postId)).isEqualTo("legacy body");
+
+        assertThat(contentRows()).isEmpty();
+        assertThat(excerpt()).isNull();
+    }
+
+    @Test
+    void existingRowIsReadWithoutComparingTheLegacyColumn() {
+        postContentStore.write(postId, "new body");
+        jdbcTemplate.update("UPDATE post SET content = ? WHERE id = ?", "edited by old instance", postId);
+
+        assertThat(postContentStore.read(postId)).isEqualTo("new body");
+    }
+
+    @Test
+    void backfillCopiesMissingAndEditedBodies() {
+        postContentStore.backfill(postId, postId);
+
+        assertThat(contentRows()).containsExactly("legacy body");
+        assertThat(excerpt()).isEqualTo("legacy body");
+
+        jdbcTemplate.update("UPDATE post SET content = ? WHERE id = ?", "edited by old instance", postId);
+        postContentStore.backfill(postId, postId);
+
+        assertThat(postContentStore.read(postId)).isEqualTo("edited by old instance");
+        assertThat(excerpt()).isEqualTo("edited by old instance");
+    }
+
+    @Test
+    void backfillLeavesBodiesInSyncAlone() {
+        postContentStore.write(postId, "same");
+        jdbcTemplate.update("UPDATE post SET excerpt = ? WHERE id = ?", "same", postId);
+
+        assertThat(postContentStore.backfill(postId, postId)).isZero();
+    }
+
+    @Test
+    void writeKeepsTheLegacyColumnInSync() {
+        postContentStore.write(postId, "first");
+        postContentStore.write(postId, "second");
+
+        assertThat(contentRows()).containsExactly("second");
+        assertThat(legacyContent()).isEqualTo("second");
+        assertThat(postContentStore.read(postId)).isEqualTo("second");
+    }
+
+    @Test
+    void missingPostReadsAsNull() {
+        assertThat(postContentStore.read(Integer.MAX_VALUE)).isNull();
+    }
+
+    @Test
+    void withoutTheLegacyColumnOnlyPostContentIsUsed() {
+        postProperty.getContent().setLegacyColumn(false);
+
+        assertThat(postContentStore.read(postId)).isNull();
+
+        postContentStore.write(postId, "only here");
+        assertThat(postContentStore.read(postId)).isEqualTo("only here");
+        assertThat(legacyContent()).isEqualTo("legacy body");
+    }
+
+    private List<String> contentRows() {
+        return jdbcTemplate.queryForList("SELECT content FROM post_content WHERE post_id = ?", String.class, postId);
+    }
+
+    private String excerpt() {
+        return jdbcTemplate.queryForObject("SELECT excerpt FROM post WHERE id = ?", String.class, postId);
+    }
+
+    private String legacyContent() {
+        return jdbcTemplate.queryForObject("SELECT content FROM post WHERE id = ?", String.class, postId);
+    }
+
+    @TestConfiguration
+    @EnableConfigurationProperties(PostProperty.class)
+    static class PropertyConfig {
+    }
+
+}
@@ -0,0 +1,253 @@
+package boot.kakaotech.communitybe.post.service;
+
+import boot.kakaotech.communitybe.common.concurrent.ForkBulkhead;
+import boot.kakaotech.communitybe.common.encoder.PasswordEncoder;
+import boot.kakaotech.communitybe.common.persistence.RequestEntityCache;
+import boot.kakaotech.communitybe.common.properties.LikeProperty;
+import boot.kakaotech.communitybe.common.properties.PostProperty;
+import boot.kakaotech.communitybe.common.properties.S3Property;
+import boot.kakaotech.communitybe.common.s3.service.S3Service;
+import boot.kakaotech.communitybe.common.util.LikeBuffer;
+import boot.kakaotech.communitybe.common.util.ThreadLocalContext;
+import boot.kakaotech.communitybe.common.util.ViewCountStore;
+import boot.kakaotech.communitybe.common.validation.Validator;
+import boot.kakaotech.communitybe.post.dto.LikeStateDto;
+import boot.kakaotech.communitybe.post.index.LikedPostIndex;
+import boot.kakaotech.communitybe.post.repository.PostContentStore;
+import boot.kakaotech.communitybe.support.MySqlRepositoryTest;
+import boot.kakaotech.communitybe.support.TestRows;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.RequestScope;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 게시글에 좋아요/취소가 동시에 들어올 때 post_like row와 like_count가 어긋나지 않는지 실제 PostServiceImpl로 확인
+ * - 호출마다 요청 하나처럼 ThreadLocalContext에 유저를 세팅하고 request scope(RequestEntityCache)를 새로 염
+ * - 좋아요/취소는 몇 번을 보내도 요청한 상태를 그대로 돌려줘야 함 (멱등)
+ * - 스레드끼리 커밋된 결과를 봐야 하므로 테스트 트랜잭션 없이 실행하고 직접 정리
+ */
+@Import({
+        PostServiceImpl.class,
+        PostContentStore.class,
+        LikedPostIndex.class,
+        Validator.class,
+        RequestEntityCache.class,
+        ThreadLocalContext.class
+})
+@TestPropertySource(properties = {
+        "like.write-behind.enabled=false",
+        "like.index.memory-budget-bytes=1048576",
+        "post.content.legacy-column=false"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PostLikeConcurrencyTest extends MySqlRepositoryTest {
+
+    private static final int THREADS = 16;
+    private static final int CALLS = 200;
+
+    @MockitoBean
+    private S3Service s3Service;
+
+    @MockitoBean
+    private S3Property s3Property;
+
+    @MockitoBean
+    private ViewCountStore viewCountStore;
+
+    @MockitoBean
+    private LikeBuffer likeBuffer;
+
+    @MockitoBean
+    private ForkBulkhead detailForkBulkhead;
+
+    @MockitoBean
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private ThreadLocalContext context;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private int userId;
+    private int postId;
+    private final List<Integer> otherUserIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        userId = TestRows.insertUser(jdbcTemplate, "like-race");
+        postId = TestRows.insertPosts(jdbcTemplate, userId, 1).get(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM post_like WHERE post_id = ?", postId);
+        jdbcTemplate.update("DELETE FROM post_content WHERE post_id IN (SELECT id FROM post WHERE user_id = ?)", userId);
+        jdbcTemplate.update("DELETE FROM post WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM `user` WHERE id = ?", userId);
+        otherUserIds.forEach(id -> jdbcTemplate.update("DELETE FROM `user` WHERE id = ?", id));
+        otherUserIds.clear();
+    }
+
+    @Test
+    void parallelLikesLeaveOneRowAndCountOne() throws Exception {
+        runConcurrently(call -> assertLiked(like(userId)));
+
+        assertThat(likeRows()).isEqualTo(1);
+        assertThat(likeCount()).isEqualTo(1);
+    }
+
+    @Test
+    void parallelLikesFromDifferentUsersAreAllCounted() throws Exception {
+        for (int i = 0; i < THREADS; i++) {
+            otherUserIds.add(TestRows.insertUser(jdbcTemplate, "like-race-" + i));
+        }
+
+        runConcurrently(call -> assertLiked(like(otherUserIds.get(call % THREADS))));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM post_like WHERE post_id = ?", Integer.class, postId))
+                .isEqualTo(THREADS);
+        assertThat(likeCount()).isEqualTo(THREADS);
+    }
+
+    @RepeatedTest(5)
+    void parallelLikeAndUnlikeKeepCountEqualToRows() throws Exception {
+        runConcurrently(call -> {
+            if (call % 2 == 0) {
+                assertLiked(like(userId));
+            } else {
+                LikeStateDto state = unlike(userId);
+                assertThat(state.getPostId()).isEqualTo(postId);
+                assertThat(state.isLiked()).isFalse();
+            }
+        });
+
+        int rows = likeRows();
+        assertThat(rows).isBetween(0, 1);
+        assertThat(likeCount()).isEqualTo(rows);
+    }
+
+    private void assertLiked(LikeStateDto state) {
+        assertThat(state.getPostId()).isEqualTo(postId);
+        assertThat(state.isLiked()).isTrue();
+    }
+
+    private LikeStateDto like(int likerId) {
+        return asRequest(likerId, () -> postService.likePost(postId));
+    }
+
+    private LikeStateDto unlike(int likerId) {
+        return asRequest(likerId, () -> postService.unlikePost(postId));
+    }
+
+    /**
+     * 필터가 하는 것처럼 요청 하나 동안만 유저와 request scope를 세팅하고 정리하는 메서드
+     *
+     * @param requesterId
+     * @param call
+     * @return
+     */
+    private LikeStateDto asRequest(int requesterId, Supplier<LikeStateDto> call) {
+        ServletRequestAttributes attributes = new ServletRequestAttributes(new MockHttpServletRequest());
+        RequestContextHolder.setRequestAttributes(attributes);
+        context.setUserId(requesterId, id -> null);
+
+        try {
+            return call.get();
+        } finally {
+            context.clear();
+            attributes.requestCompleted();
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    private void runConcurrently(Call call) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < CALLS; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    call.run(index);
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int likeRows() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM post_like WHERE post_id = ? AND user_id = ?", Integer.class, postId, userId);
+    }
+
+    private long likeCount() {
+        return jdbcTemplate.queryForObject("SELECT like_count FROM post WHERE id = ?", Long.class, postId);
+    }
+
+    @FunctionalInterface
+    private interface Call {
+
+        void run(int index);
+
+    }
+
+    @TestConfiguration
+    @EnableConfigurationProperties({ PostProperty.class, LikeProperty.class })
+    static class ServiceConfig {
+
+        // 웹 컨텍스트가 아닌 JPA 슬라이스에서도 @RequestScope 빈(RequestEntityCache)을 쓸 수 있게 등록
+        @Bean
+        static BeanFactoryPostProcessor requestScope() {
+            return beanFactory -> beanFactory.registerScope(WebApplicationContext.SCOPE_REQUEST, new RequestScope());
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+    }
+
+}
@@ -0,0 +1,27 @@
+package boot.kakaotech.communitybe.support;
+
+import boot.kakaotech.communitybe.common.config.QueryDslConfig;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.testcontainers.containers.MySQLContainer;
+
+/**
+ * 실제 MySQL 8 컨테이너에 Flyway 마이그레이션(V1~)을 적용한 뒤 JPA 슬라이스로 띄우는 테스트 베이스
+ * - 컨테이너는 JVM당 한 번만 띄우고 테스트 클래스끼리 공유
+ * - 실행하려면 Docker가 필요
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(QueryDslConfig.class)
+public abstract class MySqlRepositoryTest {
+
+    @ServiceConnection
+    protected static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0.36");
+
+    static {
+        MYSQL.start();
+    }
+
+}
@@ -0,0 +1,114 @@
+package boot.kakaotech.communitybe.support;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 테스트용 DataSource를 감싸서 실제로 실행된 PreparedStatement의 SQL과 바인딩된 파라미터를 기록하는 빈
+ * - Hibernate가 만든 SQL(QueryDSL, JPQL, native query 모두)을 그대로 EXPLAIN 하기 위해 사용
+ * - 파라미터는 setXxx(index, value) 호출에서 값만 모아 인덱스 순서대로 보관 (setNull은 null)
+ * - batch 실행은 마지막으로 바인딩된 값만 남으므로 단건 조회 검증용으로만 사용
+ */
+public class SqlCapture implements BeanPostProcessor {
+
+    private final List<CapturedSql> statements = new CopyOnWriteArrayList<>();
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !Proxy.isProxyClass(bean.getClass())) {
+            return proxy(DataSource.class, (proxy, method, args) -> {
+                Object result = invoke(dataSource, method, args);
+                return result instanceof Connection connection ? wrap(connection) : result;
+            });
+        }
+
+        return bean;
+    }
+
+    public void clear() {
+        statements.clear();
+    }
+
+    public List<CapturedSql> statements() {
+        return List.copyOf(statements);
+    }
+
+    /**
+     * 기록된 SQL 중 조건에 맞는 마지막 SQL을 반환하는 메서드
+     *
+     * @param fragment 소문자로 비교할 SQL 일부 (예: "from post_image")
+     * @return
+     */
+    public CapturedSql last(String fragment) {
+        List<CapturedSql> snapshot = statements();
+        for (int i = snapshot.size() - 1; i >= 0; i--) {
+            if (snapshot.get(i).sql().toLowerCase().contains(fragment)) {
+                return snapshot.get(i);
+            }
+        }
+
+        throw new AssertionError("no captured sql containing '" + fragment + "' - " + snapshot);
+    }
+
+    private Connection wrap(Connection connection) {
+        return proxy(Connection.class, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (method.getName().equals("prepareStatement") && result instanceof PreparedStatement statement) {
+                return wrap(statement, (String) args[0]);
+            }
+            return result;
+        });
+    }
+
+    private PreparedStatement wrap(PreparedStatement statement, String sql) {
+        Map<Integer, Object> parameters = new TreeMap<>();
+
+        return proxy(PreparedStatement.class, (proxy, method, args) -> {
+            String name = method.getName();
+
+            if (name.equals("clearParameters")) {
+                parameters.clear();
+            } else if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                parameters.put(index, name.equals("setNull") ? null : args[1]);
+            } else if (name.startsWith("execute") && (args == null || args.length == 0)) {
+                statements.add(new CapturedSql(sql, new ArrayList<>(parameters.values())));
+            }
+
+            return invoke(statement, method, args);
+        });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(SqlCapture.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    public record CapturedSql(String sql, List<Object> parameters) {
+
+        public Object[] arguments() {
+            return parameters.toArray();
+        }
+
+    }
+
+}
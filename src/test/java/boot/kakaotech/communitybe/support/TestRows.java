@@ -0,0 +1,68 @@
+package boot.kakaotech.communitybe.support;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * 리포지토리 테스트용 row를 JDBC로 바로 넣는 헬퍼
+ * - 엔티티를 거치지 않아 마이그레이션된 스키마 그대로 검증할 수 있음
+ */
+public final class TestRows {
+
+    private TestRows() {
+    }
+
+    public static int insertUser(JdbcTemplate jdbcTemplate, String name) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    "INSERT INTO `user` (email, password, nickname, created_at) VALUES (?, ?, ?, NOW())",
+                    Statement.RETURN_GENERATED_KEYS
+            );
+            ps.setString(1, name + "@test.com");
+            ps.setString(2, "password");
+            ps.setString(3, name);
+            return ps;
+        }, keyHolder);
+
+        return keyHolder.getKey().intValue();
+    }
+
+    /**
+     * 게시글을 count개 넣고 id를 오름차순으로 반환하는 메서드
+     * - created_at은 id 순서대로 1초씩 증가
+     */
+    public static List<Integer> insertPosts(JdbcTemplate jdbcTemplate, int userId, int count) {
+        for (int i = 0; i < count; i++) {
+            jdbcTemplate.update(
+                    "INSERT INTO post (user_id, title, excerpt, content, view_count, like_count, comment_count, created_at) " +
+                            "VALUES (?, ?, ?, ?, 0, 0, 0, TIMESTAMP('2024-01-01') + INTERVAL ? SECOND)",
+                    userId, "title " + i, "content " + i, "content " + i, i
+            );
+        }
+
+        return jdbcTemplate.queryForList("SELECT id FROM post WHERE user_id = ? ORDER BY id", Integer.class, userId);
+    }
+
+    /**
+     * 게시글을 2^doublings개까지 복제해서 대량으로 채우는 메서드 (INSERT ... SELECT 반복)
+     * - created_at은 id 순서대로 1초씩 증가하도록 다시 맞춤
+     */
+    public static void fillPosts(JdbcTemplate jdbcTemplate, int userId, int doublings) {
+        insertPosts(jdbcTemplate, userId, 1);
+        for (int i = 0; i < doublings; i++) {
+            jdbcTemplate.update(
+                    "INSERT INTO post (user_id, title, excerpt, content, view_count, like_count, comment_count, created_at) " +
+                            "SELECT user_id, title, excerpt, content, 0, 0, 0, created_at FROM post WHERE user_id = ?",
+                    userId
+            );
+        }
+        jdbcTemplate.update("UPDATE post SET created_at = TIMESTAMP('2024-01-01') + INTERVAL id SECOND WHERE user_id = ?", userId);
+    }
+
+}
@@ -0,0 +1,105 @@
+package boot.kakaotech.communitybe.user.index;
+
+import boot.kakaotech.communitybe.common.properties.AvailabilityFilterProperty;
+import boot.kakaotech.communitybe.user.dto.UserIdentifier;
+import boot.kakaotech.communitybe.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TakenIdentifierIndexTest {
+
+    private UserRepository userRepository;
+    private TakenIdentifierIndex index;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+
+        AvailabilityFilterProperty property = new AvailabilityFilterProperty();
+        property.setExpectedInsertions(1000);
+        property.setFalsePositiveRate(0.001);
+        property.setRebuildIntervalMs(600000);
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        index = new TakenIdentifierIndex(userRepository, transactionTemplate, property, new SimpleMeterRegistry());
+        index.init();
+    }
+
+    @Test
+    void answersMaybeUntilTheFilterIsBuilt() {
+        assertThat(index.mightBeTakenEmail("free@test.com")).isTrue();
+        assertThat(index.mightBeTakenNickname("free")).isTrue();
+    }
+
+    @Test
+    void takenValuesAreNeverReportedAsFree() {
+        when(userRepository.streamAllIdentifiers())
+                .thenReturn(Stream.of(identifier("Taken@Test.com", "Straße")));
+        index.rebuild();
+
+        assertThat(index.mightBeTakenEmail("taken@test.com")).isTrue();
+        assertThat(index.mightBeTakenNickname("STRASSE")).isTrue();
+        assertThat(index.mightBeTakenEmail("free@test.com")).isFalse();
+    }
+
+    @Test
+    void rebuildPicksUpValuesWrittenElsewhereAndDropsOldOnes() {
+        when(userRepository.streamAllIdentifiers())
+                .thenReturn(Stream.of(identifier("a@test.com", "old")))
+                .thenReturn(Stream.of(identifier("a@test.com", "new"), identifier("b@test.com", "other")));
+        index.rebuild();
+
+        index.rebuild();
+
+        assertThat(index.mightBeTakenEmail("b@test.com")).isTrue();
+        assertThat(index.mightBeTakenNickname("new")).isTrue();
+        assertThat(index.mightBeTakenNickname("old")).isFalse();
+    }
+
+    @Test
+    void failedRebuildKeepsThePreviousFilter() {
+        when(userRepository.streamAllIdentifiers())
+                .thenReturn(Stream.of(identifier("a@test.com", "nick")))
+                .thenThrow(new IllegalStateException("db down"));
+        index.rebuild();
+
+        index.rebuild();
+
+        assertThat(index.mightBeTakenEmail("a@test.com")).isTrue();
+        assertThat(index.mightBeTakenEmail("free@test.com")).isFalse();
+    }
+
+    @Test
+    void valuesEqualUnderTheColumnCollationShareAKey() {
+        assertThat(TakenIdentifierIndex.normalize("Ünïcode@EXAMPLE.com")).isEqualTo(TakenIdentifierIndex.normalize("unicode@example.com"));
+        assertThat(TakenIdentifierIndex.normalize("ＡＢＣ")).isEqualTo(TakenIdentifierIndex.normalize("abc"));
+        assertThat(TakenIdentifierIndex.normalize("ab\u00ADc")).isEqualTo(TakenIdentifierIndex.normalize("abc"));
+        assertThat(TakenIdentifierIndex.normalize("Æsir")).isEqualTo(TakenIdentifierIndex.normalize("aesir"));
+        assertThat(TakenIdentifierIndex.normalize("Łódź")).isEqualTo(TakenIdentifierIndex.normalize("lodz"));
+        assertThat(TakenIdentifierIndex.normalize("name  ")).isEqualTo(TakenIdentifierIndex.normalize("name"));
+    }
+
+    private static UserIdentifier identifier(String email, String nickname) {
+        return new UserIdentifier() {
+            @Override
+            public String getEmail() {
+                return email;
+            }
+
+            @Override
+            public String getNickname() {
+                return nickname;
+            }
+        };
+    }
+
+}